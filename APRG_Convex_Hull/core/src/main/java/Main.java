@@ -0,0 +1,377 @@
+import algorithm.Algorithms;
+import algorithm.ConvexHullAlgorithm;
+import algorithm.andrew.AndrewMonotoneChain;
+import algorithm.andrew.KineticMonotoneChain;
+import algorithm.approx.StripApproximateHull;
+import algorithm.auto.AutoConvexHull;
+import algorithm.auto.AutoThresholds;
+import algorithm.integer.IntegerMonotoneChain;
+import algorithm.jarvis.JarvisGiftWrapping;
+import algorithm.melkman.MelkmanHull;
+import algorithm.offheap.OffHeapHull;
+import analytics.HullMetrics;
+import analytics.NaiveHullAnalytics;
+import analytics.RotatingCalipers;
+import benchmark.BenchmarkRunner;
+import benchmark.ScalingSweep;
+import benchmark.SweepResult;
+import geometry.Point;
+import io.IntPoints;
+import io.OffHeapPoints;
+import io.PointGenerator;
+import io.PointLoader;
+import server.HullServer;
+import server.LatencyStats;
+import server.LoadGenerator;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Entry point with six modes:
+ *  - Visual mode (default): opens a Swing UI to animate the algorithms.
+ *  - Performance mode: runs time measurements on the chosen algorithm(s).
+ *  - Sweep mode: scaling sweep over n and distributions with allocation/GC telemetry, CSV/JSON report.
+ *  - Server mode: long-running local hull server (text and binary requests, see server.HullProtocol).
+ *  - Load mode: load generator against a running server; reports p50/p99 latency and throughput.
+ *  - Analytics mode: hull diameter/width/bounding rectangles, rotating calipers vs. naive O(h^2) timing.
+ *
+ * CLI flags:
+ *   --mode=visual|perf|sweep|server|load|analytics
+ *   --algo=andrew|jarvis|kinetic|auto|approx|melkman|all
+ *   --file=path/to/points.txt   (format per assignment: first line n, then n lines "x,y";
+ *                                *.bin = packed little-endian double pairs, read off-heap)
+ *   --n=200                     (only used if --file is not provided; points per request in load mode)
+ *   --seed=1234                 (used for random generation)
+ *   --dist=uniform|circle|polygon (distribution of generated points; polygon = simple star-shaped polygon)
+ *   --input=points|chain        (chain: points form a simple polyline/polygon in file order; enables Melkman)
+ *   --buckets=1000              (approx: number of strips; error bound = x-range / buckets)
+ *   --eps=0.01                  (approx: target error bound, overrides --buckets; exact hull if it needs more strips than points)
+ *   --auto-config=auto.properties (thresholds for --algo=AUTO, keys as in algorithm.auto.AutoThresholds)
+ *   --frames=1                  (perf: >1 times a series of frames whose points drift slightly)
+ *   --motion=0.00001            (perf: max per-frame displacement per coordinate)
+ *   --store=heap|offheap        (perf: offheap keeps points in a MemorySegment; long n allowed;
+ *                                andrew only, generated points uniform or circle)
+ *   --out=points.bin            (offheap: write generated points to this binary file instead of a temp file)
+ *   --coords=auto|double|int    (int: exact integer pipeline, plus --algo on the same points unless andrew;
+ *                                auto: integer pipeline for andrew/all if --file is integral)
+ *
+ * Analytics flags:
+ *   --runs=10                   (timing repetitions)
+ *   --batch=100                 (number of hulls for batch evaluation, generated with seeds seed..seed+batch-1)
+ *
+ * Sweep flags (also --algo, --seed, --runs):
+ *   --n-min=1000 --n-max=1000000 --factor=2  (geometric range of n)
+ *   --dists=uniform,circle,polygon (distributions; melkman only runs on polygon)
+ *   --warmup=5                  (unmeasured runs per cell before the --runs measured ones)
+ *   --warmup-ms=200             (minimum warmup time per cell)
+ *   --budget-ms=2000            (drop an algorithm/distribution from larger n once its median exceeds this)
+ *   --report=sweep.csv          (report file, default stdout; *.json or --format=json writes JSON incl. exponent fits)
+ *   --baseline=old.csv          (compare with a previous CSV report, exit code 1 on regressions)
+ *   --tolerance=0.25            (allowed relative increase of median time / allocated bytes vs. baseline)
+ *
+ * Server / load flags:
+ *   --port=7070
+ *   --concurrency=<cores>       (server: max hulls computed at once)
+ *   --connections=1024          (server: max open connections)
+ *   --max-points=1048576        (server: larger requests are answered with ERR)
+ *   --host=localhost            (load)
+ *   --clients=16                (load: concurrent connections)
+ *   --requests=100              (load: requests per client)
+ *   --format=binary|text        (load)
+ */
+public class Main {
+
+    private static AutoThresholds autoThresholds = new AutoThresholds();
+    private static int approxBuckets = 1000;
+    private static double approxEps = 0;
+    private static boolean simpleChain = false;
+
+    public static void main(String[] args) throws Exception {
+        String mode   = getArg(args, "--mode", "visual");
+        Algorithms algo = Algorithms.valueOf(getArg(args, "--algo", "andrew").toUpperCase(Locale.ROOT));
+        String file   = getArg(args, "--file", null);
+        long bigN     = Long.parseLong(getArg(args, "--n", "200"));
+        int n         = (int) Math.min(Integer.MAX_VALUE, bigN);
+        long seed     = Long.parseLong(getArg(args, "--seed", "1234"));
+        String dist   = getArg(args, "--dist", "uniform");
+        String autoConfig = getArg(args, "--auto-config", null);
+        if (autoConfig != null) autoThresholds = AutoThresholds.load(new File(autoConfig));
+        approxBuckets = Integer.parseInt(getArg(args, "--buckets", "1000"));
+        approxEps     = Double.parseDouble(getArg(args, "--eps", "0"));
+        simpleChain   = getArg(args, "--input", "points").equalsIgnoreCase("chain")
+                || (file == null && dist.equalsIgnoreCase("polygon"));
+
+        if (mode.equalsIgnoreCase("server")) {
+            runServer(algo, args);
+            return;
+        }
+        if (mode.equalsIgnoreCase("sweep")) {
+            runSweep(algo, args, seed);
+            return;
+        }
+        if (mode.equalsIgnoreCase("load")) {
+            runLoad(args, n, seed);
+            return;
+        }
+
+        boolean offHeap = getArg(args, "--store", "heap").equalsIgnoreCase("offheap")
+                || (file != null && file.endsWith(".bin"));
+        if (offHeap && mode.equalsIgnoreCase("perf")) {
+            runPerfOffHeap(algo, dist, file, getArg(args, "--out", null), bigN, seed);
+            return;
+        }
+
+        int frames = Integer.parseInt(getArg(args, "--frames", "1"));
+        String coords = getArg(args, "--coords", "auto");
+        IntPoints ints = loadIntPoints(coords, file, n, seed);
+        // the integer pipeline is an Andrew variant: it only replaces andrew, other algorithms run on ints.toPoints()
+        if (ints != null && mode.equalsIgnoreCase("perf") && frames <= 1
+                && (coords.equalsIgnoreCase("int") || algo == Algorithms.ANDREW || algo == Algorithms.ALL)) {
+            runPerfInt(algo, ints);
+            return;
+        }
+
+        // Load or generate points
+        List<Point> points = (ints != null) ? ints.toPoints()
+                : (file != null)
+                ? PointLoader.load(new File(file))
+                : PointGenerator.distribution(dist, n, seed);
+
+        if (mode.equalsIgnoreCase("analytics")) {
+            runAnalytics(points, dist, seed,
+                    Integer.parseInt(getArg(args, "--runs", "10")), Integer.parseInt(getArg(args, "--batch", "100")));
+        } else if (mode.equalsIgnoreCase("perf") && frames > 1) {
+            double motion = Double.parseDouble(getArg(args, "--motion", "0.00001"));
+            runFrames(algo, PointGenerator.driftingFrames(points, frames, motion, seed));
+        } else if (mode.equalsIgnoreCase("perf")) {
+            runPerf(algo, points);
+        } else {
+            // Visual mode: open Swing UI (ui module, ConvexHullFrame handles the animation controls)
+            openVisual(points);
+        }
+    }
+
+    /* ------------------------ Helpers ------------------------ */
+
+    private static String getArg(String[] args, String key, String def) {
+        for (String a : args) {
+            if (a.startsWith(key + "=")) return a.split("=", 2)[1];
+        }
+        return def;
+    }
+
+    /** The ui module is optional at runtime: the headless core (and its jlink image) runs without java.desktop. */
+    private static void openVisual(List<Point> points) throws Exception {
+        Class<?> launcher;
+        try {
+            launcher = Class.forName("ui.VisualLauncher");
+        } catch (ClassNotFoundException e) {
+            System.err.println("--mode=visual needs the ui module on the class path; this build is headless, use --mode=perf");
+            System.exit(2);
+            return;
+        }
+        launcher.getMethod("open", List.class).invoke(null, points);
+    }
+
+    private static void runPerf(Algorithms algo, List<Point> points) {
+        switch (algo) {
+            case Algorithms.ALL -> {
+                timeOnce("andrew", new AndrewMonotoneChain(), points);
+                timeOnce("jarvis", new JarvisGiftWrapping(), points);
+                timeOnce("kinetic", new KineticMonotoneChain(), points);
+                timeOnce("auto", newAlgorithm(Algorithms.AUTO), points);
+                timeOnce("approx", newAlgorithm(Algorithms.APPROX), points);
+                if (simpleChain) timeOnce("melkman", new MelkmanHull(), points);
+            }
+            case Algorithms.JARVIS -> timeOnce("jarvis", new JarvisGiftWrapping(), points);
+            case Algorithms.ANDREW -> timeOnce("andrew", new AndrewMonotoneChain(), points);
+            case Algorithms.KINETIC -> timeOnce("kinetic", new KineticMonotoneChain(), points);
+            case Algorithms.AUTO -> timeOnce("auto", newAlgorithm(Algorithms.AUTO), points);
+            case Algorithms.APPROX -> timeOnce("approx", newAlgorithm(Algorithms.APPROX), points);
+            case Algorithms.MELKMAN -> timeOnce("melkman", new MelkmanHull(), points);
+        }
+    }
+
+    /** Integer points for the exact pipeline, or null if the double pipeline should be used. */
+    private static IntPoints loadIntPoints(String coords, String file, int n, long seed) throws Exception {
+        switch (coords.toLowerCase()) {
+            case "double" -> { return null; }
+            case "auto" -> { return file != null ? PointLoader.loadIntegral(new File(file)) : null; }
+            case "int" -> {
+                if (file == null) return PointGenerator.uniformRandomInt(n, 0, 1 << 20, seed);
+                IntPoints pts = PointLoader.loadIntegral(new File(file));
+                if (pts == null) throw new IllegalArgumentException("--coords=int but " + file + " has non-integer coordinates");
+                return pts;
+            }
+            default -> throw new IllegalArgumentException("unknown --coords=" + coords);
+        }
+    }
+
+    private static void runPerfInt(Algorithms algo, IntPoints ints) {
+        long ms = BenchmarkRunner.timeMillis(new IntegerMonotoneChain(), ints);
+        System.out.printf("Algorithm: andrew-int | n=%d | %s | time=%d ms%n",
+                ints.size(), ints.isCompact() ? "int[]" : "long[]", ms);
+        if (algo != Algorithms.ANDREW) runPerf(algo, ints.toPoints()); // requested algorithm(s) on the same points
+    }
+
+    /** Off-heap points only run through OffHeapHull (a monotone chain), so only --algo=andrew is accepted. */
+    private static void runPerfOffHeap(Algorithms algo, String dist, String file, String out, long n, long seed) throws Exception {
+        if (algo != Algorithms.ANDREW) {
+            throw new IllegalArgumentException("--store=offheap runs the off-heap monotone chain only, not --algo=" + algo.name().toLowerCase());
+        }
+        if (file == null && !dist.equalsIgnoreCase("uniform") && !dist.equalsIgnoreCase("circle")) {
+            throw new IllegalArgumentException("--store=offheap generates uniform or circle points, not --dist=" + dist);
+        }
+        try (OffHeapPoints store = file != null ? OffHeapPoints.map(Path.of(file))
+                : out != null ? OffHeapPoints.create(Path.of(out), n) : OffHeapPoints.allocate(n)) {
+            if (file == null) {
+                if (dist.equalsIgnoreCase("circle")) PointGenerator.onCircle(store, 5.5, 5.5, 4.5, seed);
+                else PointGenerator.uniformRandom(store, 1, 10, 1, 10, seed);
+            }
+            long t0 = System.nanoTime();
+            List<Point> hull = new OffHeapHull().computeConvexHull(store);
+            long ms = (System.nanoTime() - t0) / 1_000_000;
+            Runtime rt = Runtime.getRuntime();
+            System.out.printf("Algorithm: offheap | n=%d | h=%d | time=%d ms | heap used=%d MB%n",
+                    store.size(), hull.size(), ms, (rt.totalMemory() - rt.freeMemory()) >> 20);
+        }
+    }
+
+    private static void runAnalytics(List<Point> points, String dist, long seed, int runs, int batch) {
+        List<Point> hull = new KineticMonotoneChain().computeConvexHull(points);
+        HullMetrics m = RotatingCalipers.analyze(hull);
+        System.out.printf("Hull: n=%d | h=%d | diameter=%.6f | width=%.6f | min-area rect=%.6f | min-perimeter rect=%.6f%n",
+                points.size(), hull.size(), m.diameter(), m.width(),
+                m.minAreaRect().area(), m.minPerimeterRect().perimeter());
+
+        double fast  = BenchmarkRunner.avgMillis(() -> RotatingCalipers.analyze(hull), runs);
+        double naive = BenchmarkRunner.avgMillis(() -> NaiveHullAnalytics.analyze(hull), runs);
+        System.out.printf("Single hull (h=%d): calipers=%.3f ms | naive=%.3f ms | speedup=%.1fx%n",
+                hull.size(), fast, naive, naive / fast);
+
+        List<List<Point>> hulls = new ArrayList<>(batch);
+        for (int b = 0; b < batch; b++) {
+            List<Point> pts = dist.equalsIgnoreCase("circle")
+                    ? PointGenerator.onCircle(points.size(), 5.5, 5.5, 4.5, seed + b)
+                    : PointGenerator.uniformRandom(points.size(), 1, 10, 1, 10, seed + b);
+            hulls.add(new KineticMonotoneChain().computeConvexHull(pts));
+        }
+        double seq   = BenchmarkRunner.avgMillis(() -> RotatingCalipers.analyzeAll(hulls, false), runs);
+        double par   = BenchmarkRunner.avgMillis(() -> RotatingCalipers.analyzeAll(hulls, true), runs);
+        double brute = BenchmarkRunner.avgMillis(() -> hulls.stream().map(NaiveHullAnalytics::analyze).toList(), runs);
+        System.out.printf("Batch (%d hulls): calipers=%.3f ms | calipers parallel=%.3f ms | naive=%.3f ms%n",
+                batch, seq, par, brute);
+    }
+
+    private static void runFrames(Algorithms algo, List<List<Point>> frames) {
+        if (algo == Algorithms.ALL) {
+            for (Algorithms a : List.of(Algorithms.ANDREW, Algorithms.JARVIS, Algorithms.KINETIC, Algorithms.AUTO, Algorithms.APPROX)) runFrames(a, frames);
+            return;
+        }
+        double ms = BenchmarkRunner.avgFrameMillis(newAlgorithm(algo), frames);
+        System.out.printf("Algorithm: %s | n=%d | frames=%d | avg=%.3f ms/frame%n",
+                algo.name().toLowerCase(), frames.get(0).size(), frames.size(), ms);
+    }
+
+    private static ConvexHullAlgorithm newAlgorithm(Algorithms algo) {
+        return switch (algo) {
+            case Algorithms.ANDREW -> new AndrewMonotoneChain();
+            case Algorithms.JARVIS -> new JarvisGiftWrapping();
+            case Algorithms.KINETIC -> new KineticMonotoneChain();
+            case Algorithms.AUTO -> new AutoConvexHull(autoThresholds, Runtime.getRuntime().availableProcessors());
+            case Algorithms.APPROX -> approxEps > 0
+                    ? StripApproximateHull.withEpsilon(approxEps)
+                    : new StripApproximateHull(approxBuckets);
+            case Algorithms.MELKMAN -> new MelkmanHull();
+            case Algorithms.ALL -> throw new IllegalArgumentException("--algo=ALL is not a single algorithm");
+        };
+    }
+
+    private static void runSweep(Algorithms selected, String[] args, long seed) throws Exception {
+        Map<String, Supplier<ConvexHullAlgorithm>> algos = new LinkedHashMap<>();
+        for (Algorithms a : Algorithms.values()) {
+            if (a == Algorithms.ALL || (selected != Algorithms.ALL && a != selected)) continue;
+            algos.put(a.name().toLowerCase(), () -> newAlgorithm(a));
+        }
+        int[] sizes = ScalingSweep.geometric(
+                Integer.parseInt(getArg(args, "--n-min", "1000")),
+                Integer.parseInt(getArg(args, "--n-max", "1000000")),
+                Double.parseDouble(getArg(args, "--factor", "2")));
+        List<String> dists = List.of(getArg(args, "--dists", "uniform,circle,polygon").split(","));
+        String report = getArg(args, "--report", null);
+        boolean json = getArg(args, "--format", "csv").equalsIgnoreCase("json")
+                || (report != null && report.endsWith(".json"));
+
+        ScalingSweep sweep = new ScalingSweep(algos, dists,
+                Integer.parseInt(getArg(args, "--warmup", "5")),
+                Long.parseLong(getArg(args, "--warmup-ms", "200")),
+                Integer.parseInt(getArg(args, "--runs", "10")), seed,
+                Long.parseLong(getArg(args, "--budget-ms", "2000")));
+        // with the report on stdout, the human-readable lines go to stderr
+        PrintStream console = report != null ? System.out : System.err;
+        List<SweepResult> results = sweep.run(sizes, console);
+        List<ScalingSweep.Fit> fits = ScalingSweep.fit(results);
+        for (ScalingSweep.Fit f : fits) {
+            console.printf("Fit: %s | dist=%s | time ~ n^%.2f | r2=%.3f | sizes=%d%n",
+                    f.algorithm(), f.distribution(), f.exponent(), f.r2(), f.points());
+        }
+
+        String text = json ? ScalingSweep.toJson(results, fits) : ScalingSweep.toCsv(results);
+        if (report != null) Files.writeString(Path.of(report), text);
+        else System.out.print(text);
+
+        String baseline = getArg(args, "--baseline", null);
+        if (baseline != null) {
+            List<String> regressions = ScalingSweep.regressions(results, ScalingSweep.readCsv(Path.of(baseline)),
+                    Double.parseDouble(getArg(args, "--tolerance", "0.25")));
+            regressions.forEach(r -> console.println("REGRESSION " + r));
+            if (!regressions.isEmpty()) System.exit(1);
+        }
+    }
+
+    private static void runServer(Algorithms algo, String[] args) throws Exception {
+        int port        = Integer.parseInt(getArg(args, "--port", "7070"));
+        int concurrency = Integer.parseInt(getArg(args, "--concurrency",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int connections = Integer.parseInt(getArg(args, "--connections", "1024"));
+        int maxPoints   = Integer.parseInt(getArg(args, "--max-points", String.valueOf(HullServer.DEFAULT_MAX_POINTS)));
+
+        HullServer server = new HullServer(() -> newAlgorithm(algo), port, concurrency, connections, maxPoints);
+        Runtime.getRuntime().addShutdownHook(new Thread(() ->
+                System.out.printf("Server stopped | algo=%s | %s%n", algo, server.stats().summary())));
+        System.out.printf("Hull server on localhost:%d | algo=%s | concurrency=%d | connections=%d | max points=%d%n",
+                server.port(), algo, concurrency, connections, maxPoints);
+        server.serve();
+    }
+
+    private static void runLoad(String[] args, int n, long seed) throws Exception {
+        String host  = getArg(args, "--host", "localhost");
+        int port     = Integer.parseInt(getArg(args, "--port", "7070"));
+        int clients  = Integer.parseInt(getArg(args, "--clients", "16"));
+        int requests = Integer.parseInt(getArg(args, "--requests", "100"));
+        boolean binary = !getArg(args, "--format", "binary").equalsIgnoreCase("text");
+
+        LatencyStats stats = LoadGenerator.run(host, port, clients, requests, n, binary, seed);
+        System.out.printf("Load: %s | clients=%d | n=%d | %s%n",
+                binary ? "binary" : "text", clients, n, stats.summary());
+    }
+
+    private static void timeOnce(String name, ConvexHullAlgorithm impl, List<Point> points) {
+        long ms = BenchmarkRunner.timeMillis(impl, points, simpleChain);
+        System.out.printf("Algorithm: %s | n=%d | time=%d ms%n", name, points.size(), ms);
+        if (impl instanceof AutoConvexHull auto) System.out.println("  " + auto.lastDecision());
+        if (impl instanceof StripApproximateHull approx) {
+            System.out.printf("  error bound=%.3g | measured max distance=%.3g%n", approx.lastErrorBound(),
+                    StripApproximateHull.measuredError(points, approx.computeConvexHull(points)));
+        }
+    }
+}
@@ -3,5 +3,9 @@ package algorithm;
 public enum Algorithms {
     ALL,
     ANDREW,
-    JARVIS
+    JARVIS,
+    KINETIC,
+    AUTO,
+    APPROX,
+    MELKMAN
 }
@@ -0,0 +1,22 @@
+package algorithm;
+
+import geometry.Point;
+
+import java.util.List;
+
+public interface ConvexHullAlgorithm {
+    /**
+     * Berechnet die konvexe Hülle der gegebenen Punkte.
+     * Rückgabe: Punkte der Hülle in CCW-Reihenfolge (Startpunkt nicht dupliziert).
+     */
+    List<Point> computeConvexHull(List<Point> points);
+
+    /**
+     * Wie {@link #computeConvexHull(List)}; simpleChain = true sichert zu, dass die Punkte in Eingabereihenfolge
+     * eine einfache Polylinie bzw. ein einfaches Polygon bilden (keine Selbstschnitte).
+     * Standard: der Hinweis wird ignoriert; Algorithmen, die ihn nutzen können, überschreiben diese Methode.
+     */
+    default List<Point> computeConvexHull(List<Point> points, boolean simpleChain) {
+        return computeConvexHull(points);
+    }
+}
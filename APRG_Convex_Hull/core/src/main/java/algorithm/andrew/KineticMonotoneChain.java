@@ -0,0 +1,223 @@
+package algorithm.andrew;
+
+import algorithm.ConvexHullAlgorithm;
+import geometry.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Warm-started Andrew's Monotone Chain for time series of slightly moving point sets.
+ *
+ * Frames are matched by index: point i of the next call is assumed to be point i of the previous one, moved a bit.
+ * - The previous (x,y) sort order is reused and repaired with insertion sort, which is O(n + inversions).
+ *   Once the shifts per point exceed the budget (large motion, unrelated input) the repair stops and a natural
+ *   merge sort takes over: it merges the runs already in the order (the repaired prefix is one of them),
+ *   so a warm frame costs at most about a cold sort.
+ * - The previous hull vertices, at their current positions, span a convex polygon inside the new hull.
+ *   Points strictly inside it are skipped before the chain scan.
+ * For small motions a frame costs O(n + inversions + n log h) instead of O(n log n).
+ *
+ * Returns the hull in CCW order starting at the lowest-x (then lowest-y) point, like {@link AndrewMonotoneChain}.
+ * The warm state makes instances stateful: calls are synchronized, and {@link #reset()} drops the state.
+ */
+public class KineticMonotoneChain implements ConvexHullAlgorithm {
+    private static final double EPS = 1e-12;
+    /** Insertion sort may shift at most this many elements per point (on average so far) before falling back to merge sort. */
+    private static final int REPAIR_BUDGET_PER_POINT = 8;
+    /** Slack in shifts, so a few early far-moving points do not end the repair. */
+    private static final int REPAIR_SLACK = 8 * 1024;
+
+    private int[] order;     // sort order of the previous frame (indices into the input list)
+    private int[] hullIdx;   // hull vertices of the previous frame (indices into the input list)
+
+    /** Forget the previous frame; the next call sorts from scratch. */
+    public synchronized void reset() {
+        order = null;
+        hullIdx = null;
+    }
+
+    @Override
+    public synchronized List<Point> computeConvexHull(List<Point> points) {
+        if (points == null || points.size() <= 1) {
+            reset();
+            return points == null ? List.of() : new ArrayList<>(points);
+        }
+
+        int n = points.size();
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            Point p = points.get(i);
+            xs[i] = p.getX();
+            ys[i] = p.getY();
+        }
+
+        // 1) Sort order: repair the previous one, or sort from scratch.
+        if (order == null || order.length != n) {
+            order = identity(n);
+            hullIdx = null;
+            mergeSort(order, xs, ys);
+        } else if (!insertionSort(order, xs, ys)) {
+            mergeSort(order, xs, ys);
+        }
+
+        // 2) Interior elimination with the convex hull of the previous hull vertices (current positions).
+        int[] inner = hullIdx == null ? null : innerPolygon(hullIdx, xs, ys);
+
+        int[] cand = new int[n];
+        int m = 0;
+        int prev = -1;
+        for (int k = 0; k < n; k++) {
+            int i = order[k];
+            if (prev >= 0 && Math.abs(xs[prev] - xs[i]) <= EPS && Math.abs(ys[prev] - ys[i]) <= EPS) continue;
+            prev = i;
+            if (inner != null && strictlyInside(inner, xs, ys, xs[i], ys[i])) continue;
+            cand[m++] = i;
+        }
+
+        // 3) Monotone chain over the surviving candidates (already sorted).
+        int[] hull = new int[2 * m];
+        int h = 0;
+        for (int k = 0; k < m; k++) {
+            int i = cand[k];
+            while (h >= 2 && orient(xs, ys, hull[h - 2], hull[h - 1], i) <= 0) h--;
+            hull[h++] = i;
+        }
+        for (int k = m - 2, lowerEnd = h + 1; k >= 0; k--) {
+            int i = cand[k];
+            while (h >= lowerEnd && orient(xs, ys, hull[h - 2], hull[h - 1], i) <= 0) h--;
+            hull[h++] = i;
+        }
+        if (m > 1) h--; // last point equals the first
+
+        hullIdx = Arrays.copyOf(hull, h);
+        List<Point> out = new ArrayList<>(h);
+        for (int k = 0; k < h; k++) out.add(points.get(hull[k]));
+        return out;
+    }
+
+    /* ------------------------ Sorting ------------------------ */
+
+    private static boolean less(double[] xs, double[] ys, int a, int b) {
+        return xs[a] < xs[b] || (xs[a] == xs[b] && ys[a] < ys[b]);
+    }
+
+    /**
+     * Adaptive insertion sort; returns false (order sorted up to some prefix) as soon as the shifts so far exceed
+     * REPAIR_BUDGET_PER_POINT per processed point plus REPAIR_SLACK, so a hopeless repair is abandoned early.
+     */
+    private static boolean insertionSort(int[] order, double[] xs, double[] ys) {
+        long shifts = 0;
+        for (int k = 1; k < order.length; k++) {
+            int v = order[k];
+            int j = k - 1;
+            while (j >= 0 && less(xs, ys, v, order[j])) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = v;
+            shifts += k - 1 - j;
+            if (shifts > (long) REPAIR_BUDGET_PER_POINT * k + REPAIR_SLACK) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Natural merge sort on indices: finds the ascending runs already present and merges them pairwise,
+     * O(n log r) for r runs (O(n) for sorted input, O(n log n) at worst like a plain merge sort).
+     * The keys are gathered once and merged along with the indices, so every pass reads memory sequentially
+     * (a warm order is a random permutation of the input indices).
+     */
+    private static void mergeSort(int[] order, double[] xs, double[] ys) {
+        int n = order.length;
+        double[] kx = new double[n], ky = new double[n];
+        for (int k = 0; k < n; k++) { kx[k] = xs[order[k]]; ky[k] = ys[order[k]]; }
+
+        int[] runs = new int[n + 1]; // run i = [runs[i], runs[i+1])
+        int r = 0;
+        runs[r++] = 0;
+        for (int k = 1; k < n; k++) if (kx[k] < kx[k - 1] || (kx[k] == kx[k - 1] && ky[k] < ky[k - 1])) runs[r++] = k;
+        runs[r] = n;
+
+        int[] si = order, di = new int[n];
+        double[] sx = kx, sy = ky, dx = new double[n], dy = new double[n];
+        while (r > 1) {
+            int w = 0;
+            for (int i = 0; i < r; i += 2) {
+                int lo = runs[i], mid = runs[Math.min(i + 1, r)], hi = runs[Math.min(i + 2, r)];
+                int a = lo, b = mid, k = lo;
+                while (a < mid && b < hi) {
+                    int from = (sx[b] < sx[a] || (sx[b] == sx[a] && sy[b] < sy[a])) ? b++ : a++;
+                    di[k] = si[from]; dx[k] = sx[from]; dy[k] = sy[from]; k++;
+                }
+                int rest = a < mid ? a : b, len = hi - k;
+                System.arraycopy(si, rest, di, k, len);
+                System.arraycopy(sx, rest, dx, k, len);
+                System.arraycopy(sy, rest, dy, k, len);
+                runs[w++] = lo;
+            }
+            runs[w] = n;
+            r = w;
+            int[] ti = si; si = di; di = ti;
+            double[] t = sx; sx = dx; dx = t;
+            t = sy; sy = dy; dy = t;
+        }
+        if (si != order) System.arraycopy(si, 0, order, 0, n);
+    }
+
+    private static int[] identity(int n) {
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) a[i] = i;
+        return a;
+    }
+
+    /* ------------------------ Interior elimination ------------------------ */
+
+    /** CCW convex hull of the given vertices at their current positions; null if it has no interior. */
+    private static int[] innerPolygon(int[] idx, double[] xs, double[] ys) {
+        int[] s = idx.clone();
+        mergeSort(s, xs, ys);
+        int[] hull = new int[2 * s.length];
+        int h = 0;
+        for (int i : s) {
+            while (h >= 2 && orient(xs, ys, hull[h - 2], hull[h - 1], i) <= 0) h--;
+            hull[h++] = i;
+        }
+        for (int k = s.length - 2, lowerEnd = h + 1; k >= 0; k--) {
+            while (h >= lowerEnd && orient(xs, ys, hull[h - 2], hull[h - 1], s[k]) <= 0) h--;
+            hull[h++] = s[k];
+        }
+        h--;
+        return h >= 3 ? Arrays.copyOf(hull, h) : null;
+    }
+
+    /** O(log h) test whether (px,py) lies strictly inside the CCW convex polygon (boundary counts as outside). */
+    private static boolean strictlyInside(int[] poly, double[] xs, double[] ys, double px, double py) {
+        int m = poly.length;
+        int o = poly[0];
+        if (orient(xs[o], ys[o], xs[poly[1]], ys[poly[1]], px, py) <= 0) return false;
+        if (orient(xs[o], ys[o], xs[poly[m - 1]], ys[poly[m - 1]], px, py) >= 0) return false;
+        // find the wedge (poly[lo], poly[lo+1]) around poly[0] that contains p
+        int lo = 1, hi = m - 1;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (orient(xs[o], ys[o], xs[poly[mid]], ys[poly[mid]], px, py) > 0) lo = mid; else hi = mid;
+        }
+        int a = poly[lo], b = poly[lo + 1];
+        return orient(xs[a], ys[a], xs[b], ys[b], px, py) > 0;
+    }
+
+    /* ------------------------ Geometry ------------------------ */
+
+    private static double orient(double[] xs, double[] ys, int a, int b, int c) {
+        return orient(xs[a], ys[a], xs[b], ys[b], xs[c], ys[c]);
+    }
+
+    /** Signed cross product (twice the triangle area); |cross| < EPS counts as collinear (0). */
+    private static double orient(double ax, double ay, double bx, double by, double cx, double cy) {
+        double cross = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+        if (Math.abs(cross) < EPS) return 0.0;
+        return cross;
+    }
+}
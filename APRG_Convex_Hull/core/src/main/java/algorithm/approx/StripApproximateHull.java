@@ -0,0 +1,206 @@
+package algorithm.approx;
+
+import algorithm.ConvexHullAlgorithm;
+import algorithm.andrew.AndrewMonotoneChain;
+import geometry.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Approximate convex hull after Bentley–Faust–Preparata (strip bucketing).
+ *
+ * - The x-range is cut into k vertical strips; per strip only the lowest and highest point are kept,
+ *   plus the lowest/highest point at min x and at max x.
+ * - The exact hull of these at most 2k+4 candidates is returned (CCW, like {@link AndrewMonotoneChain}).
+ * - Every hull vertex is an input point, and every input point lies within width/k of the result
+ *   (width = max x - min x). See {@link #lastErrorBound()}.
+ * - With an epsilon that would need more strips than there are points, the exact hull is returned
+ *   (bound 0): it is cheaper than bucketing then and keeps the bound at most epsilon.
+ * Time: O(n + k log k) in two linear passes (x-range, bucketing); the bucketing pass runs in parallel for large n
+ * as long as the per-chunk strip arrays stay small next to the input.
+ */
+public class StripApproximateHull implements ConvexHullAlgorithm {
+    private static final int PARALLEL_MIN_N = 1 << 18;
+
+    private final int buckets;    // fixed strip count, or 0 if derived from epsilon
+    private final double epsilon; // target error bound, used when buckets == 0
+    private volatile double lastErrorBound;
+
+    /** Fixed number of strips. */
+    public StripApproximateHull(int buckets) {
+        if (buckets < 1) throw new IllegalArgumentException("buckets must be >= 1");
+        this.buckets = buckets;
+        this.epsilon = 0;
+    }
+
+    private StripApproximateHull(double epsilon) {
+        if (!(epsilon > 0)) throw new IllegalArgumentException("epsilon must be > 0");
+        this.buckets = 0;
+        this.epsilon = epsilon;
+    }
+
+    /** Strip count chosen per input so that the error bound is at most {@code epsilon}. */
+    public static StripApproximateHull withEpsilon(double epsilon) {
+        return new StripApproximateHull(epsilon);
+    }
+
+    /** Guaranteed maximum distance of any input point to the last returned hull. */
+    public double lastErrorBound() { return lastErrorBound; }
+
+    @Override
+    public List<Point> computeConvexHull(List<Point> points) {
+        if (points == null || points.size() <= 1) {
+            lastErrorBound = 0;
+            return points == null ? List.of() : new ArrayList<>(points);
+        }
+        int n = points.size();
+        boolean parallel = n >= PARALLEL_MIN_N;
+
+        // 1) x-range
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        for (Point p : points) {
+            double x = p.getX();
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+        }
+        double width = maxX - minX;
+        double needed = buckets > 0 ? buckets : Math.max(1, Math.ceil(width / epsilon));
+        if (buckets == 0 && needed > n) {
+            lastErrorBound = 0;
+            return new AndrewMonotoneChain().computeConvexHull(points);
+        }
+        int k = (int) needed;
+
+        // 2) lowest/highest point per slot: 0 = min x, 1..k = strips, k+1 = max x
+        // chunks scan into their own arrays, so only go parallel while those are small next to n
+        int chunks = Runtime.getRuntime().availableProcessors();
+        Strips s;
+        if (parallel && chunks > 1 && (long) chunks * (k + 2) <= n / 4) {
+            final double fMinX = minX, fMaxX = maxX;
+            s = IntStream.range(0, chunks).parallel()
+                    .mapToObj(c -> new Strips(k).scan(points, fMinX, fMaxX, (int) ((long) n * c / chunks), (int) ((long) n * (c + 1) / chunks)))
+                    .reduce(Strips::merge).orElseThrow();
+        } else {
+            s = new Strips(k).scan(points, minX, maxX, 0, n);
+        }
+
+        List<Point> cand = new ArrayList<>(2 * k + 4);
+        for (int slot = 0; slot < k + 2; slot++) {
+            if (s.lo[slot] != null) cand.add(s.lo[slot]);
+            if (s.hi[slot] != null && s.hi[slot] != s.lo[slot]) cand.add(s.hi[slot]);
+        }
+        lastErrorBound = width / k;
+        return new AndrewMonotoneChain().computeConvexHull(cand);
+    }
+
+    /**
+     * Measured maximum distance of any input point to {@code hull} (convex, CCW, vertices taken from
+     * {@code points}); points inside count as 0. Distance to a convex polygon is a convex function, so the
+     * maximum is taken at a vertex of the exact hull: only those are located (O(log h) each). Walking the exact
+     * hull CCW, the nearest point on {@code hull} moves CCW too, so the nearest edge is found by advancing one
+     * pointer. O(n log n) for the exact hull, then O(H log h + h) for its H vertices.
+     */
+    public static double measuredError(List<Point> points, List<Point> hull) {
+        int h = hull.size();
+        if (h < 3) return 0;
+        double max = 0;
+        int edge = -1; // edge hull[edge] -> hull[edge + 1] holding the nearest point of the last outside vertex
+        for (Point p : new AndrewMonotoneChain().computeConvexHull(points)) {
+            if (insideOrOn(hull, p)) continue;
+            if (edge < 0) {
+                edge = 0;
+                for (int i = 1; i < h; i++) if (edgeDistance(hull, i, p) < edgeDistance(hull, edge, p)) edge = i;
+            }
+            for (int steps = 0; steps < h && !nearestOnEdge(hull, edge, p); steps++) edge = (edge + 1) % h;
+            max = Math.max(max, edgeDistance(hull, edge, p));
+        }
+        return max;
+    }
+
+    /* ------------------------ Helpers ------------------------ */
+
+    /** Lowest/highest point per slot over an index range. */
+    private static final class Strips {
+        final int k;
+        final Point[] lo, hi;
+
+        Strips(int k) {
+            this.k = k;
+            this.lo = new Point[k + 2];
+            this.hi = new Point[k + 2];
+        }
+
+        Strips scan(List<Point> points, double minX, double maxX, int from, int to) {
+            double scale = maxX > minX ? k / (maxX - minX) : 0;
+            for (int i = from; i < to; i++) {
+                Point p = points.get(i);
+                double x = p.getX();
+                put(1 + Math.min(k - 1, (int) ((x - minX) * scale)), p);
+                if (x == minX) put(0, p);
+                if (x == maxX) put(k + 1, p);
+            }
+            return this;
+        }
+
+        void put(int slot, Point p) {
+            if (lo[slot] == null || p.getY() < lo[slot].getY()) lo[slot] = p;
+            if (hi[slot] == null || p.getY() > hi[slot].getY()) hi[slot] = p;
+        }
+
+        Strips merge(Strips o) {
+            for (int slot = 0; slot < lo.length; slot++) {
+                if (o.lo[slot] != null) put(slot, o.lo[slot]);
+                if (o.hi[slot] != null) put(slot, o.hi[slot]);
+            }
+            return this;
+        }
+    }
+
+    /** Point in convex CCW polygon (boundary counts as inside), O(log h). */
+    private static boolean insideOrOn(List<Point> poly, Point p) {
+        int m = poly.size();
+        Point o = poly.get(0);
+        if (cross(o, poly.get(1), p) < 0 || cross(o, poly.get(m - 1), p) > 0) return false;
+        int lo = 1, hi = m - 1;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (cross(o, poly.get(mid), p) >= 0) lo = mid; else hi = mid;
+        }
+        return cross(poly.get(lo), poly.get(lo + 1), p) >= 0;
+    }
+
+    private static double cross(Point a, Point b, Point c) {
+        return (b.getX() - a.getX()) * (c.getY() - a.getY()) - (b.getY() - a.getY()) * (c.getX() - a.getX());
+    }
+
+    /** Whether the point of {@code hull} nearest to p (outside) lies on edge i, end points included. */
+    private static boolean nearestOnEdge(List<Point> hull, int i, Point p) {
+        int h = hull.size();
+        Point prev = hull.get((i + h - 1) % h), a = hull.get(i), b = hull.get((i + 1) % h), next = hull.get((i + 2) % h);
+        double dx = b.getX() - a.getX(), dy = b.getY() - a.getY();
+        double along = (p.getX() - a.getX()) * dx + (p.getY() - a.getY()) * dy;
+        if (along < 0) { // before a: nearest is a if p lies past the end of the previous edge
+            return (p.getX() - a.getX()) * (a.getX() - prev.getX()) + (p.getY() - a.getY()) * (a.getY() - prev.getY()) >= 0;
+        }
+        if (along > dx * dx + dy * dy) { // past b: nearest is b if p lies before the start of the next edge
+            return (p.getX() - b.getX()) * (next.getX() - b.getX()) + (p.getY() - b.getY()) * (next.getY() - b.getY()) <= 0;
+        }
+        return cross(a, b, p) <= 0;
+    }
+
+    /** Distance of p to edge i (hull[i] -> hull[i + 1], cyclic). */
+    private static double edgeDistance(List<Point> hull, int i, Point p) {
+        int h = hull.size();
+        return segmentDistance(p, hull.get(i % h), hull.get((i + 1) % h));
+    }
+
+    private static double segmentDistance(Point p, Point a, Point b) {
+        double dx = b.getX() - a.getX(), dy = b.getY() - a.getY();
+        double len2 = dx * dx + dy * dy;
+        double t = len2 == 0 ? 0 : ((p.getX() - a.getX()) * dx + (p.getY() - a.getY()) * dy) / len2;
+        t = Math.max(0, Math.min(1, t));
+        return p.distance(a.getX() + t * dx, a.getY() + t * dy);
+    }
+}
@@ -0,0 +1,135 @@
+package algorithm.auto;
+
+import algorithm.ConvexHullAlgorithm;
+import algorithm.andrew.AndrewMonotoneChain;
+import algorithm.andrew.KineticMonotoneChain;
+import algorithm.integer.IntegerMonotoneChain;
+import algorithm.jarvis.JarvisGiftWrapping;
+import algorithm.melkman.MelkmanHull;
+import algorithm.parallel.ChunkedParallelHull;
+import geometry.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Picks an implementation per input from a cheap sample (O(s log s) for s sampled points, plus one O(n) integrality scan).
+ *
+ * - Hull size: hull of an evenly strided sample; a large hull fraction means convex position (h ~ n),
+ *   otherwise h is extrapolated conservatively with (n/s)^(1/3) (uniform disk growth; square/gaussian grow slower).
+ * - Sortedness: fraction of sampled neighbour pairs (i, i+1) already in x order.
+ * - Rules: small n -> Andrew; tiny hull -> Jarvis; presorted -> kinetic chain (adaptive merge sort);
+ *   integral -> exact integer chain; otherwise the primitive-array kinetic chain (about 2x Andrew's boxed sort).
+ *   Large unsorted inputs on several cores go through the chunked parallel wrapper, unless the estimated
+ *   hull is a large fraction of n (then nearly every point survives the chunks into the serial final pass).
+ * - Inputs declared as simple chains ({@link #computeConvexHull(List, boolean)}) always go to Melkman, O(n).
+ * The last decision is kept for logging (see {@link #lastDecision()}).
+ */
+public class AutoConvexHull implements ConvexHullAlgorithm {
+
+    /** Outcome of one selection; {@code reason} is a human-readable explanation. */
+    public record Decision(String algorithm, int n, int sampleHull, int sampleSize, double estimatedHull,
+                           double sortedness, boolean integral, int cores, String reason) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "AUTO -> %s | n=%d | sample hull=%d/%d | est. h=%.0f | sorted=%.2f | integral=%b | cores=%d | %s",
+                    algorithm, n, sampleHull, sampleSize, estimatedHull, sortedness, integral, cores, reason);
+        }
+    }
+
+    private final AutoThresholds t;
+    private final int cores;
+    private volatile Decision lastDecision;
+
+    public AutoConvexHull() {
+        this(new AutoThresholds(), Runtime.getRuntime().availableProcessors());
+    }
+
+    public AutoConvexHull(AutoThresholds thresholds, int cores) {
+        this.t = thresholds;
+        this.cores = cores;
+    }
+
+    public Decision lastDecision() { return lastDecision; }
+
+    @Override
+    public List<Point> computeConvexHull(List<Point> points) {
+        if (points == null || points.size() <= 1) return points == null ? List.of() : new ArrayList<>(points);
+        Decision d = decide(points);
+        lastDecision = d;
+        ConvexHullAlgorithm impl = switch (d.algorithm()) {
+            case "jarvis" -> new JarvisGiftWrapping();
+            case "kinetic" -> new KineticMonotoneChain();
+            case "integer" -> new IntegerMonotoneChain();
+            case "integer-parallel" -> new ChunkedParallelHull(IntegerMonotoneChain::new, cores);
+            case "kinetic-parallel" -> new ChunkedParallelHull(KineticMonotoneChain::new, cores);
+            default -> new AndrewMonotoneChain();
+        };
+        return impl.computeConvexHull(points);
+    }
+
+    @Override
+    public List<Point> computeConvexHull(List<Point> points, boolean simpleChain) {
+        if (!simpleChain) return computeConvexHull(points);
+        int n = points == null ? 0 : points.size();
+        lastDecision = new Decision("melkman", n, 0, 0, 0, 0, false, cores, "input declared as simple chain: O(n) without sorting");
+        return new MelkmanHull().computeConvexHull(points);
+    }
+
+    /** Samples the input and applies the thresholds; does not compute the hull. */
+    public Decision decide(List<Point> points) {
+        int n = points.size();
+        if (n <= t.smallN) return new Decision("andrew", n, 0, 0, 0, 0, false, cores, "n <= smallN=" + t.smallN);
+
+        int s = Math.min(n, t.sampleSize);
+        List<Point> sample = new ArrayList<>(s);
+        int inOrder = 0;
+        for (int k = 0; k < s; k++) {
+            int i = (int) ((long) n * k / s);
+            sample.add(points.get(i));
+            if (i + 1 < n && points.get(i).getX() <= points.get(i + 1).getX()) inOrder++;
+        }
+        double sortedness = (double) inOrder / s;
+        int sampleHull = new AndrewMonotoneChain().computeConvexHull(sample).size();
+        double fraction = (double) sampleHull / s;
+        double estHull = fraction >= t.convexFraction ? fraction * n : sampleHull * Math.cbrt((double) n / s);
+        boolean integral = t.useInteger && isIntegral(sample) && isIntegral(points);
+        boolean parallelSize = cores > 1 && n >= t.parallelMinN;
+        // near convex position almost every point survives the chunk hulls and the serial final pass redoes the work
+        boolean parallel = parallelSize && estHull <= t.parallelMaxHullFraction * n;
+        String chunking = !parallelSize ? ""
+                : String.format(Locale.ROOT, parallel ? ", chunked on %d cores (est. h=%.0f <= %.2f*n)"
+                        : ", serial on %d cores: est. h=%.0f > %.2f*n would all reach the final pass",
+                        cores, estHull, t.parallelMaxHullFraction);
+        double log2n = Math.log(n) / Math.log(2);
+
+        String algo, reason;
+        if (estHull < t.jarvisLogFactor * log2n) {
+            algo = "jarvis";
+            reason = String.format(Locale.ROOT, "est. h < %.2f*log2(n)=%.1f, O(n*h) beats sorting",
+                    t.jarvisLogFactor, t.jarvisLogFactor * log2n);
+        } else if (sortedness >= t.sortedFraction) {
+            algo = "kinetic";
+            reason = String.format(Locale.ROOT, "presorted (%.2f >= %.2f): adaptive merge sort is near-linear",
+                    sortedness, t.sortedFraction);
+        } else if (integral) {
+            algo = parallel ? "integer-parallel" : "integer";
+            reason = "all coordinates integral: exact radix-sorted chain" + chunking;
+        } else {
+            algo = parallel ? "kinetic-parallel" : "kinetic";
+            reason = (fraction >= t.convexFraction ? "convex position (h ~ n)" : "general position")
+                    + ": primitive-array chain with merge sort" + chunking;
+        }
+        return new Decision(algo, n, sampleHull, s, estHull, sortedness, integral, cores, reason);
+    }
+
+    private static boolean isIntegral(List<Point> pts) {
+        for (Point p : pts) {
+            double x = p.getX(), y = p.getY();
+            if (x != Math.rint(x) || y != Math.rint(y) || Math.abs(x) > 0x1p52 || Math.abs(y) > 0x1p52) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package algorithm.auto;
+
+import java.io.*;
+import java.util.Properties;
+
+/**
+ * Tunable decision thresholds of {@link AutoConvexHull}.
+ * Defaults come from perf-mode runs; recalibrate with a properties file (keys = field names, see Main --auto-config).
+ */
+public class AutoThresholds {
+    /** Inputs up to this size go straight to Andrew (sampling would cost more than it saves). */
+    public int smallN = 1024;
+    /** Number of sampled points. */
+    public int sampleSize = 1024;
+    /** Sample hull fraction at or above which the input counts as (nearly) convex position: h ~ f * n. */
+    public double convexFraction = 0.5;
+    /**
+     * Jarvis is chosen while the estimated hull size stays below jarvisLogFactor * log2(n).
+     * 0 disables it: in our runs (uniform, n = 10^3..10^6) Jarvis never beat the sorting chains.
+     */
+    public double jarvisLogFactor = 0.0;
+    /** Fraction of sampled neighbour pairs in x order at or above which the input counts as presorted (adaptive sort wins). */
+    public double sortedFraction = 0.9;
+    /** Use the exact integer pipeline when all coordinates are integral. */
+    public boolean useInteger = true;
+    /** Minimum n for the chunked parallel path (requires more than one core). */
+    public int parallelMinN = 200_000;
+    /**
+     * The chunked path only pays off while the chunk hulls are small: its final pass runs serially over
+     * all chunk-hull points, so it is skipped once the estimated hull exceeds this fraction of n.
+     */
+    public double parallelMaxHullFraction = 0.1;
+
+    public static AutoThresholds load(File f) throws IOException {
+        Properties p = new Properties();
+        try (Reader r = new FileReader(f)) { p.load(r); }
+        AutoThresholds t = new AutoThresholds();
+        t.smallN          = Integer.parseInt(p.getProperty("smallN", String.valueOf(t.smallN)));
+        t.sampleSize      = Integer.parseInt(p.getProperty("sampleSize", String.valueOf(t.sampleSize)));
+        t.convexFraction  = Double.parseDouble(p.getProperty("convexFraction", String.valueOf(t.convexFraction)));
+        t.jarvisLogFactor = Double.parseDouble(p.getProperty("jarvisLogFactor", String.valueOf(t.jarvisLogFactor)));
+        t.sortedFraction  = Double.parseDouble(p.getProperty("sortedFraction", String.valueOf(t.sortedFraction)));
+        t.useInteger      = Boolean.parseBoolean(p.getProperty("useInteger", String.valueOf(t.useInteger)));
+        t.parallelMinN    = Integer.parseInt(p.getProperty("parallelMinN", String.valueOf(t.parallelMinN)));
+        t.parallelMaxHullFraction = Double.parseDouble(
+                p.getProperty("parallelMaxHullFraction", String.valueOf(t.parallelMaxHullFraction)));
+        return t;
+    }
+}
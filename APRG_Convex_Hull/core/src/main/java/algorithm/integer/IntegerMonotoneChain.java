@@ -0,0 +1,78 @@
+package algorithm.integer;
+
+import algorithm.ConvexHullAlgorithm;
+import geometry.Point;
+import io.IntPoints;
+
+import java.util.List;
+
+/**
+ * Andrew's Monotone Chain on integer coordinates with exact arithmetic (no EPS).
+ *
+ * - Sorting: LSD radix sort on the (x, y) keys, O(n) for bounded coordinate ranges.
+ * - Orientation: exact in long while all differences fit into 31 bits, else exact 128-bit via Math.multiplyHigh.
+ * - Duplicates are removed exactly; collinear points on an edge are dropped (only extreme endpoints remain).
+ * - Returns the hull in CCW order starting at the lowest-x (then lowest-y) point, like the double version.
+ */
+public class IntegerMonotoneChain implements ConvexHullAlgorithm {
+
+    /** Double-coordinate entry point; all coordinates must be integral (see {@link IntPoints#fromPoints}). */
+    @Override
+    public List<Point> computeConvexHull(List<Point> points) {
+        if (points == null) return List.of();
+        return computeConvexHull(IntPoints.fromPoints(points)).toPoints();
+    }
+
+    public IntPoints computeConvexHull(IntPoints pts) {
+        int n = pts.size();
+        if (n <= 1) return pts;
+
+        int[] order = RadixSort.sortByXY(pts);
+
+        // exact dedup on the sorted order
+        int m = 1;
+        for (int k = 1; k < n; k++) {
+            int a = order[m - 1], b = order[k];
+            if (pts.x(a) != pts.x(b) || pts.y(a) != pts.y(b)) order[m++] = b;
+        }
+
+        int[] hull = new int[2 * m];
+        int h = 0;
+        for (int k = 0; k < m; k++) {
+            int i = order[k];
+            while (h >= 2 && orient(pts, hull[h - 2], hull[h - 1], i) <= 0) h--;
+            hull[h++] = i;
+        }
+        for (int k = m - 2, lowerEnd = h + 1; k >= 0; k--) {
+            int i = order[k];
+            while (h >= lowerEnd && orient(pts, hull[h - 2], hull[h - 1], i) <= 0) h--;
+            hull[h++] = i;
+        }
+        if (m > 1) h--; // last point equals the first
+        return pts.select(hull, h);
+    }
+
+    private static int orient(IntPoints p, int a, int b, int c) {
+        long ax = p.x(a), ay = p.y(a);
+        return orient(p.x(b) - ax, p.y(b) - ay, p.x(c) - ax, p.y(c) - ay);
+    }
+
+    /**
+     * Exact sign of x1*y2 - y1*x2: 1 = LEFT turn (CCW), -1 = RIGHT, 0 = collinear.
+     * Inputs are differences of coordinates below 2^62 in magnitude, so they fit into a long.
+     */
+    static int orient(long x1, long y1, long x2, long y2) {
+        long mag = abs(x1) | abs(y1) | abs(x2) | abs(y2);
+        if (mag < (1L << 31)) {
+            // each product < 2^62, their difference < 2^63: no overflow
+            return Long.signum(x1 * y2 - y1 * x2);
+        }
+        // 128-bit products: (hi, lo) with hi signed and lo unsigned
+        long hi1 = Math.multiplyHigh(x1, y2), lo1 = x1 * y2;
+        long hi2 = Math.multiplyHigh(y1, x2), lo2 = y1 * x2;
+        if (hi1 != hi2) return hi1 > hi2 ? 1 : -1;
+        return Integer.signum(Long.compareUnsigned(lo1, lo2));
+    }
+
+    private static long abs(long v) { return (v ^ (v >> 63)) - (v >> 63); }
+}
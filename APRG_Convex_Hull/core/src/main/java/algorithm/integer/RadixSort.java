@@ -0,0 +1,59 @@
+package algorithm.integer;
+
+import io.IntPoints;
+
+import java.util.Arrays;
+
+/**
+ * LSD radix sort (8-bit digits) of point indices by (x, y).
+ * Passes whose digit is the same for every key are skipped, so small coordinate ranges need few passes.
+ */
+final class RadixSort {
+    private RadixSort() {}
+
+    /** Indices 0..n-1 sorted by x, then y (signed comparison). */
+    static int[] sortByXY(IntPoints pts) {
+        int n = pts.size();
+        long[] keys = new long[n];
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) idx[i] = i;
+
+        if (pts.isCompact()) {
+            // both 32-bit coordinates in one unsigned 64-bit key
+            for (int i = 0; i < n; i++) {
+                long x = (pts.x(i) ^ 0x80000000L) & 0xFFFFFFFFL;
+                long y = (pts.y(i) ^ 0x80000000L) & 0xFFFFFFFFL;
+                keys[i] = (x << 32) | y;
+            }
+            sort(keys, idx);
+        } else {
+            // stable LSD: secondary key (y) first, then primary key (x)
+            for (int i = 0; i < n; i++) keys[i] = pts.y(i) ^ Long.MIN_VALUE;
+            sort(keys, idx);
+            for (int k = 0; k < n; k++) keys[k] = pts.x(idx[k]) ^ Long.MIN_VALUE;
+            sort(keys, idx);
+        }
+        return idx;
+    }
+
+    /** Sorts keys (as unsigned) and permutes idx alongside; stable. */
+    static void sort(long[] keys, int[] idx) {
+        int n = keys.length;
+        long[] k2 = new long[n];
+        int[] i2 = new int[n];
+        int[] count = new int[257];
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(count, 0);
+            for (long k : keys) count[(int) ((k >>> shift) & 0xFF) + 1]++;
+            if (count[(int) ((keys[0] >>> shift) & 0xFF) + 1] == n) continue; // constant digit
+            for (int d = 0; d < 256; d++) count[d + 1] += count[d];
+            for (int i = 0; i < n; i++) {
+                int pos = count[(int) ((keys[i] >>> shift) & 0xFF)]++;
+                k2[pos] = keys[i];
+                i2[pos] = idx[i];
+            }
+            System.arraycopy(k2, 0, keys, 0, n);
+            System.arraycopy(i2, 0, idx, 0, n);
+        }
+    }
+}
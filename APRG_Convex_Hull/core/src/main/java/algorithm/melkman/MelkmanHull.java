@@ -0,0 +1,94 @@
+package algorithm.melkman;
+
+import algorithm.ConvexHullAlgorithm;
+import algorithm.andrew.KineticMonotoneChain;
+import geometry.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Melkman's algorithm: O(n) convex hull of a simple polyline or simple polygon, in input order.
+ *
+ * - No sorting and no dedup pass; coordinates are copied once into primitive arrays and the hull is
+ *   kept in an int deque whose both ends hold the most recently added vertex.
+ * - {@link #computeConvexHull(List)} requires the input order to be a simple chain (no self-intersections);
+ *   otherwise the result is undefined. {@link #computeConvexHull(List, boolean)} with simpleChain = false
+ *   falls back to the primitive-array monotone chain.
+ * - Collinear points on an edge are dropped; returns the hull in CCW order starting at the lowest-x
+ *   (then lowest-y) point, like the other algorithms.
+ */
+public class MelkmanHull implements ConvexHullAlgorithm {
+    private static final double EPS = 1e-12;
+
+    @Override
+    public List<Point> computeConvexHull(List<Point> points, boolean simpleChain) {
+        return simpleChain ? computeConvexHull(points) : new KineticMonotoneChain().computeConvexHull(points);
+    }
+
+    @Override
+    public List<Point> computeConvexHull(List<Point> points) {
+        if (points == null || points.size() <= 1) {
+            return points == null ? List.of() : new ArrayList<>(points);
+        }
+        int n = points.size();
+        double[] xs = new double[n], ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            Point p = points.get(i);
+            xs[i] = p.getX();
+            ys[i] = p.getY();
+        }
+
+        // 1) Collinear prefix: grow the segment [a,b] until the first point off its line.
+        int a = 0, b = 1;
+        while (b < n && Math.abs(xs[b] - xs[a]) <= EPS && Math.abs(ys[b] - ys[a]) <= EPS) b++;
+        if (b == n) return List.of(points.get(0));
+        int k = b + 1;
+        for (; k < n; k++) {
+            if (orient(xs, ys, a, b, k) != 0) break;
+            double dx = xs[b] - xs[a], dy = ys[b] - ys[a];
+            if ((xs[k] - xs[b]) * dx + (ys[k] - ys[b]) * dy > 0) b = k;        // beyond b
+            else if ((xs[k] - xs[a]) * dx + (ys[k] - ys[a]) * dy < 0) a = k;   // before a
+        }
+        if (k == n) return rotate(points, new int[]{a, b}, 0, 2, xs, ys);
+
+        // 2) Deque d[bot..top]; d[bot] == d[top] == last added vertex, bot -> top is CCW.
+        int[] d = new int[2 * n + 1];
+        int bot = n, top = n + 3;
+        d[bot] = k; d[top] = k;
+        if (orient(xs, ys, a, b, k) > 0) { d[bot + 1] = a; d[bot + 2] = b; }
+        else                             { d[bot + 1] = b; d[bot + 2] = a; }
+
+        // 3) Each new vertex is either inside the current hull or on one of its end edges (skip), or replaces
+        //    a run at both ends. Deque vertices are strict corners, so a point collinear with one end edge but
+        //    beyond it lies strictly right of the other and is not skipped.
+        for (int v = k + 1; v < n; v++) {
+            if (orient(xs, ys, d[bot], d[bot + 1], v) >= 0 && orient(xs, ys, d[top - 1], d[top], v) >= 0) continue;
+            while (top - bot > 1 && orient(xs, ys, d[top - 1], d[top], v) <= 0) top--;
+            d[++top] = v;
+            while (top - bot > 1 && orient(xs, ys, v, d[bot], d[bot + 1]) <= 0) bot++;
+            d[--bot] = v;
+        }
+        return rotate(points, d, bot, top, xs, ys);
+    }
+
+    /** Hull vertices d[from..to) in CCW order, rotated to start at the lowest-x (then lowest-y) vertex. */
+    private static List<Point> rotate(List<Point> points, int[] d, int from, int to, double[] xs, double[] ys) {
+        int h = to - from;
+        int start = from;
+        for (int i = from + 1; i < to; i++) {
+            int c = d[i], s = d[start];
+            if (xs[c] < xs[s] || (xs[c] == xs[s] && ys[c] < ys[s])) start = i;
+        }
+        List<Point> out = new ArrayList<>(h);
+        for (int i = 0; i < h; i++) out.add(points.get(d[from + (start - from + i) % h]));
+        return out;
+    }
+
+    /** Signed cross product; |cross| < EPS counts as collinear (0). */
+    private static double orient(double[] xs, double[] ys, int a, int b, int c) {
+        double cross = (xs[b] - xs[a]) * (ys[c] - ys[a]) - (ys[b] - ys[a]) * (xs[c] - xs[a]);
+        if (Math.abs(cross) < EPS) return 0.0;
+        return cross;
+    }
+}
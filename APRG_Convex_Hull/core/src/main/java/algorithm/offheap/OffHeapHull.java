@@ -0,0 +1,116 @@
+package algorithm.offheap;
+
+import algorithm.ConvexHullAlgorithm;
+import algorithm.andrew.KineticMonotoneChain;
+import geometry.Point;
+import io.OffHeapPoints;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Exact convex hull over an {@link OffHeapPoints} store with long indices (n may exceed 2^31).
+ *
+ * - The store is processed in chunks of {@code chunkSize} points, in parallel.
+ * - Per chunk, an Akl–Toussaint filter drops points strictly inside the octagon of the chunk's extreme
+ *   points in the axis and diagonal directions; only the survivors are boxed and passed to the
+ *   primitive-array monotone chain.
+ * - The hull of all chunk hulls is the hull of the whole store.
+ * Heap use is O(chunkSize + sum of chunk hull sizes); the points themselves never enter the heap.
+ * Returns the hull in CCW order starting at the lowest-x (then lowest-y) point.
+ */
+public class OffHeapHull implements ConvexHullAlgorithm {
+    public static final int DEFAULT_CHUNK = 1 << 20;
+
+    private final int chunkSize;
+
+    public OffHeapHull() { this(DEFAULT_CHUNK); }
+
+    public OffHeapHull(int chunkSize) {
+        this.chunkSize = Math.max(16, chunkSize);
+    }
+
+    /** Heap input is copied into a temporary off-heap store first (for comparison runs). */
+    @Override
+    public List<Point> computeConvexHull(List<Point> points) {
+        if (points == null) return List.of();
+        try (OffHeapPoints store = OffHeapPoints.allocate(points.size())) {
+            for (int i = 0; i < points.size(); i++) store.set(i, points.get(i).getX(), points.get(i).getY());
+            return computeConvexHull(store);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<Point> computeConvexHull(OffHeapPoints pts) {
+        long n = pts.size();
+        if (n == 0) return List.of();
+        int chunks = (int) ((n + chunkSize - 1) / chunkSize);
+        List<Point> candidates = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> chunkHull(pts, (long) c * chunkSize, Math.min(n, (long) (c + 1) * chunkSize)))
+                .flatMap(List::stream)
+                .toList();
+        return new KineticMonotoneChain().computeConvexHull(candidates);
+    }
+
+    private static List<Point> chunkHull(OffHeapPoints pts, long from, long to) {
+        // 1) extreme points of the chunk in 8 directions, CCW from -x: min x, min x+y, min y, max x-y, max x, max x+y, max y, min x-y
+        long[] ext = new long[8];
+        Arrays.fill(ext, from);
+        double[] best = new double[8];
+        for (int d = 0; d < 8; d++) best[d] = score(d, pts.x(from), pts.y(from));
+        for (long i = from + 1; i < to; i++) {
+            double x = pts.x(i), y = pts.y(i);
+            for (int d = 0; d < 8; d++) {
+                double v = score(d, x, y);
+                if (v > best[d]) { best[d] = v; ext[d] = i; }
+            }
+        }
+        // octagon without repeated vertices (a point can be extreme in several directions)
+        double[] qx = new double[8], qy = new double[8];
+        int m = 0;
+        for (int d = 0; d < 8; d++) {
+            double x = pts.x(ext[d]), y = pts.y(ext[d]);
+            if (m > 0 && qx[m - 1] == x && qy[m - 1] == y) continue;
+            if (m > 0 && d == 7 && qx[0] == x && qy[0] == y) continue;
+            qx[m] = x; qy[m] = y; m++;
+        }
+
+        // 2) drop points strictly inside the octagon (Akl–Toussaint)
+        List<Point> survivors = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            double x = pts.x(i), y = pts.y(i);
+            if (m >= 3 && strictlyInside(qx, qy, m, x, y)) continue;
+            survivors.add(new Point(x, y));
+        }
+        return new KineticMonotoneChain().computeConvexHull(survivors);
+    }
+
+    /** Extremeness of (x,y) in direction d (larger = more extreme), see the order in {@link #chunkHull}. */
+    private static double score(int d, double x, double y) {
+        return switch (d) {
+            case 0 -> -x;
+            case 1 -> -(x + y);
+            case 2 -> -y;
+            case 3 -> x - y;
+            case 4 -> x;
+            case 5 -> x + y;
+            case 6 -> y;
+            default -> y - x;
+        };
+    }
+
+    /** True if (x,y) is strictly left of every edge of the CCW polygon. */
+    private static boolean strictlyInside(double[] qx, double[] qy, int m, double x, double y) {
+        for (int e = 0; e < m; e++) {
+            int f = e + 1 == m ? 0 : e + 1;
+            double cross = (qx[f] - qx[e]) * (y - qy[e]) - (qy[f] - qy[e]) * (x - qx[e]);
+            if (cross <= 0) return false;
+        }
+        return true;
+    }
+}
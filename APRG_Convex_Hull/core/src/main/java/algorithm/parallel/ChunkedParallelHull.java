@@ -0,0 +1,42 @@
+package algorithm.parallel;
+
+import algorithm.ConvexHullAlgorithm;
+import geometry.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel wrapper around any hull algorithm.
+ *
+ * Splits the input into one chunk per worker, computes the chunk hulls in parallel and then
+ * the hull of the union of the chunk hulls (the hull of a union equals the hull of the union of hulls).
+ * The final pass only sees the chunk hull vertices, so for h << n it is cheap.
+ * Every chunk gets its own algorithm instance from the factory, so stateful algorithms are fine.
+ */
+public class ChunkedParallelHull implements ConvexHullAlgorithm {
+    private final Supplier<? extends ConvexHullAlgorithm> factory;
+    private final int chunks;
+
+    public ChunkedParallelHull(Supplier<? extends ConvexHullAlgorithm> factory, int chunks) {
+        this.factory = factory;
+        this.chunks = Math.max(1, chunks);
+    }
+
+    @Override
+    public List<Point> computeConvexHull(List<Point> points) {
+        if (points == null || points.size() <= 1 || chunks == 1) return factory.get().computeConvexHull(points);
+
+        int n = points.size();
+        int k = Math.min(chunks, n);
+        List<List<Point>> partial = IntStream.range(0, k).parallel()
+                .mapToObj(c -> factory.get().computeConvexHull(points.subList((int) ((long) n * c / k), (int) ((long) n * (c + 1) / k))))
+                .toList();
+
+        List<Point> union = new ArrayList<>();
+        for (List<Point> h : partial) union.addAll(h);
+        return factory.get().computeConvexHull(union);
+    }
+}
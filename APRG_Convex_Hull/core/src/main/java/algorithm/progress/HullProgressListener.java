@@ -0,0 +1,10 @@
+package algorithm.progress;
+
+import geometry.Point;
+
+import java.util.List;
+
+public interface HullProgressListener {
+    void onChainsUpdated(List<Point> lower, List<Point> upper); // während Aufbau
+    void onFinished(List<Point> hull);                        // final
+}
@@ -0,0 +1,23 @@
+package analytics;
+
+import geometry.Point;
+
+import java.util.List;
+
+/**
+ * Shape metrics of a convex hull.
+ *
+ * @param diameter         largest distance between two hull vertices (diameterA, diameterB)
+ * @param width            smallest distance between two parallel supporting lines
+ * @param minAreaRect      enclosing rectangle of minimum area
+ * @param minPerimeterRect enclosing rectangle of minimum perimeter
+ */
+public record HullMetrics(double diameter, Point diameterA, Point diameterB, double width,
+                          Rect minAreaRect, Rect minPerimeterRect) {
+
+    /** Enclosing rectangle; corners in CCW order, one side parallel to a hull edge. */
+    public record Rect(List<Point> corners, double length, double height) {
+        public double area()      { return length * height; }
+        public double perimeter() { return 2 * (length + height); }
+    }
+}
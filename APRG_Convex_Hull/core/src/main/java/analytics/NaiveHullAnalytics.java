@@ -0,0 +1,50 @@
+package analytics;
+
+import geometry.Point;
+
+import java.util.List;
+
+/**
+ * Brute-force O(h^2) reference for {@link RotatingCalipers}: all vertex pairs for the diameter and,
+ * per edge, a full scan of all vertices for width and enclosing rectangle. Used for checks and benchmarks.
+ */
+public final class NaiveHullAnalytics {
+    private NaiveHullAnalytics() {}
+
+    public static HullMetrics analyze(List<Point> hull) {
+        int h = hull.size();
+        if (h <= 2) return RotatingCalipers.analyze(hull);
+
+        double diam = -1;
+        Point da = null, db = null;
+        for (int i = 0; i < h; i++) {
+            for (int j = i + 1; j < h; j++) {
+                double d = hull.get(i).distance(hull.get(j));
+                if (d > diam) { diam = d; da = hull.get(i); db = hull.get(j); }
+            }
+        }
+
+        double width = Double.POSITIVE_INFINITY;
+        HullMetrics.Rect bestArea = null, bestPerim = null;
+        for (int i = 0; i < h; i++) {
+            Point a = hull.get(i), b = hull.get((i + 1) % h);
+            double len = a.distance(b);
+            if (len == 0) continue;
+            double ux = (b.getX() - a.getX()) / len, uy = (b.getY() - a.getY()) / len;
+            double nx = -uy, ny = ux;
+            double lo = Double.POSITIVE_INFINITY, hi = Double.NEGATIVE_INFINITY, height = 0;
+            for (Point p : hull) {
+                double dx = p.getX() - a.getX(), dy = p.getY() - a.getY();
+                double proj = dx * ux + dy * uy;
+                lo = Math.min(lo, proj);
+                hi = Math.max(hi, proj);
+                height = Math.max(height, dx * nx + dy * ny);
+            }
+            width = Math.min(width, height);
+            HullMetrics.Rect r = RotatingCalipers.rect(a.getX(), a.getY(), ux, uy, nx, ny, lo, hi, height);
+            if (bestArea == null || r.area() < bestArea.area()) bestArea = r;
+            if (bestPerim == null || r.perimeter() < bestPerim.perimeter()) bestPerim = r;
+        }
+        return new HullMetrics(diam, da, db, width, bestArea, bestPerim);
+    }
+}
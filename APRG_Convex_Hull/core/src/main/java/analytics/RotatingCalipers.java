@@ -0,0 +1,94 @@
+package analytics;
+
+import geometry.Point;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Diameter, width, minimum-area and minimum-perimeter enclosing rectangle of a convex hull in one O(h) pass.
+ *
+ * Input: hull vertices in CCW order without repeated start point, as returned by every ConvexHullAlgorithm.
+ * For each edge three calipers only move forward around the hull: the farthest vertex from the edge (width,
+ * antipodal pairs for the diameter) and the vertices with the largest and smallest projection on the edge
+ * direction (rectangle length). Each caliper makes at most one full turn, so the pass is O(h).
+ */
+public final class RotatingCalipers {
+    private RotatingCalipers() {}
+
+    public static HullMetrics analyze(List<Point> hull) {
+        int h = hull.size();
+        if (h == 0) return new HullMetrics(0, null, null, 0, degenerate(List.of()), degenerate(List.of()));
+        if (h <= 2) {
+            Point a = hull.get(0), b = hull.get(h - 1);
+            HullMetrics.Rect r = degenerate(List.of(a, b, b, a));
+            return new HullMetrics(a.distance(b), a, b, 0, r, r);
+        }
+
+        double[] xs = new double[h], ys = new double[h];
+        for (int i = 0; i < h; i++) { xs[i] = hull.get(i).getX(); ys[i] = hull.get(i).getY(); }
+
+        double diam2 = -1, width = Double.POSITIVE_INFINITY;
+        int da = 0, db = 0;
+        HullMetrics.Rect bestArea = null, bestPerim = null;
+        int far = 1, right = 1, left = -1;
+
+        for (int i = 0; i < h; i++) {
+            int j = (i + 1) % h;
+            double ex = xs[j] - xs[i], ey = ys[j] - ys[i];
+            double len = Math.hypot(ex, ey);
+            if (len == 0) continue;
+            double ux = ex / len, uy = ey / len;   // edge direction
+            double nx = -uy, ny = ux;              // inward normal (interior is to the left)
+
+            // farthest vertex from the edge; every vertex passed is antipodal to i or j
+            while (dot(xs, ys, (far + 1) % h, i, nx, ny) > dot(xs, ys, far, i, nx, ny)) far = (far + 1) % h;
+            for (int c : new int[]{far, (far + 1) % h}) {
+                for (int e : new int[]{i, j}) {
+                    double dx = xs[c] - xs[e], dy = ys[c] - ys[e];
+                    double d2 = dx * dx + dy * dy;
+                    if (d2 > diam2) { diam2 = d2; da = e; db = c; }
+                }
+            }
+            double height = dot(xs, ys, far, i, nx, ny);
+            width = Math.min(width, height);
+
+            // extreme projections on the edge direction
+            while (dot(xs, ys, (right + 1) % h, i, ux, uy) > dot(xs, ys, right, i, ux, uy)) right = (right + 1) % h;
+            if (left < 0) left = far;
+            while (dot(xs, ys, (left + 1) % h, i, ux, uy) < dot(xs, ys, left, i, ux, uy)) left = (left + 1) % h;
+            double lo = dot(xs, ys, left, i, ux, uy), hi = dot(xs, ys, right, i, ux, uy);
+
+            double length = hi - lo;
+            if (bestArea == null || length * height < bestArea.area()) bestArea = rect(xs[i], ys[i], ux, uy, nx, ny, lo, hi, height);
+            if (bestPerim == null || length + height < bestPerim.length() + bestPerim.height()) bestPerim = rect(xs[i], ys[i], ux, uy, nx, ny, lo, hi, height);
+        }
+        return new HullMetrics(Math.sqrt(diam2), hull.get(da), hull.get(db), width, bestArea, bestPerim);
+    }
+
+    /** Batch evaluation over many hulls; parallel across hulls, results in input order. */
+    public static List<HullMetrics> analyzeAll(List<List<Point>> hulls, boolean parallel) {
+        Stream<List<Point>> s = parallel ? hulls.parallelStream() : hulls.stream();
+        return s.map(RotatingCalipers::analyze).toList();
+    }
+
+    /** Projection of (vertex v - vertex origin) on (dx, dy). */
+    private static double dot(double[] xs, double[] ys, int v, int origin, double dx, double dy) {
+        return (xs[v] - xs[origin]) * dx + (ys[v] - ys[origin]) * dy;
+    }
+
+    /** Rectangle spanned along u from lo to hi and along n from 0 to height, relative to (ox, oy). */
+    static HullMetrics.Rect rect(double ox, double oy, double ux, double uy, double nx, double ny,
+                                 double lo, double hi, double height) {
+        return new HullMetrics.Rect(List.of(
+                new Point(ox + ux * lo, oy + uy * lo),
+                new Point(ox + ux * hi, oy + uy * hi),
+                new Point(ox + ux * hi + nx * height, oy + uy * hi + ny * height),
+                new Point(ox + ux * lo + nx * height, oy + uy * lo + ny * height)), hi - lo, height);
+    }
+
+    private static HullMetrics.Rect degenerate(List<Point> corners) {
+        double len = corners.isEmpty() ? 0 : corners.get(0).distance(corners.get(1));
+        return new HullMetrics.Rect(corners, len, 0);
+    }
+}
@@ -0,0 +1,75 @@
+package benchmark;
+
+import algorithm.ConvexHullAlgorithm;
+import algorithm.integer.IntegerMonotoneChain;
+import geometry.Point;
+import io.IntPoints;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public class BenchmarkRunner {
+
+    /** Single timing (milliseconds). */
+    public static long timeMillis(ConvexHullAlgorithm algo, List<Point> pts) {
+        return timeMillis(algo, pts, false);
+    }
+
+    /** Single timing (milliseconds); simpleChain is passed on as input hint. */
+    public static long timeMillis(ConvexHullAlgorithm algo, List<Point> pts, boolean simpleChain) {
+        long t0 = System.nanoTime();
+        var hull = algo.computeConvexHull(pts, simpleChain);
+        long t1 = System.nanoTime();
+        // prevent dead-code elimination
+        if (hull == null || hull.isEmpty()) System.err.print("");
+        return (t1 - t0) / 1_000_000;
+    }
+
+    /** Single timing (milliseconds) of the native integer pipeline. */
+    public static long timeMillis(IntegerMonotoneChain algo, IntPoints pts) {
+        long t0 = System.nanoTime();
+        var hull = algo.computeConvexHull(pts);
+        long t1 = System.nanoTime();
+        if (hull == null || hull.size() == 0) System.err.print("");
+        return (t1 - t0) / 1_000_000;
+    }
+
+    /** Average over 'runs' executions (no warmup). */
+    public static double avgMillis(ConvexHullAlgorithm algo, List<Point> pts, int runs) {
+        long totalNs = 0L;
+        for (int i = 0; i < runs; i++) {
+            long t0 = System.nanoTime();
+            var hull = algo.computeConvexHull(pts);
+            long t1 = System.nanoTime();
+            if (hull == null || hull.isEmpty()) System.err.print("");
+            totalNs += (t1 - t0);
+        }
+        return totalNs / 1_000_000.0 / runs;
+    }
+
+    /** Average per-frame time over a series of frames, computed in order on the same instance (for warm-started algorithms). */
+    public static double avgFrameMillis(ConvexHullAlgorithm algo, List<List<Point>> frames) {
+        long totalNs = 0L;
+        for (List<Point> frame : frames) {
+            long t0 = System.nanoTime();
+            var hull = algo.computeConvexHull(frame);
+            long t1 = System.nanoTime();
+            if (hull == null || hull.isEmpty()) System.err.print("");
+            totalNs += (t1 - t0);
+        }
+        return totalNs / 1_000_000.0 / frames.size();
+    }
+
+    /** Average over 'runs' executions of an arbitrary task (no warmup). */
+    public static double avgMillis(Supplier<?> task, int runs) {
+        long totalNs = 0L;
+        for (int i = 0; i < runs; i++) {
+            long t0 = System.nanoTime();
+            Object result = task.get();
+            long t1 = System.nanoTime();
+            if (result == null) System.err.print("");
+            totalNs += (t1 - t0);
+        }
+        return totalNs / 1_000_000.0 / runs;
+    }
+}
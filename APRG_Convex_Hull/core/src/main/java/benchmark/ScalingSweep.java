@@ -0,0 +1,233 @@
+package benchmark;
+
+import algorithm.ConvexHullAlgorithm;
+import algorithm.melkman.MelkmanHull;
+import geometry.Point;
+import io.PointGenerator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Scaling sweep: every algorithm over a geometric range of n and several distributions.
+ * Per cell: warmup runs, then measured runs with time, allocated bytes (all threads, so the
+ * parallel paths count too), GC count/time and peak heap from the platform MXBeans.
+ * Every run gets a fresh instance: a warm-started algorithm (kinetic) would otherwise time its
+ * warm path on the repeated input instead of a hull from scratch.
+ * Results go out as CSV or JSON; {@link #fit} estimates the complexity exponent k in time ~ n^k.
+ */
+public class ScalingSweep {
+
+    /** Least-squares slope of log(median time) over log(n); r2 = coefficient of determination. */
+    public record Fit(String algorithm, String distribution, double exponent, double r2, int points) {
+        public String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"algorithm\":\"%s\",\"distribution\":\"%s\",\"exponent\":%.4f,\"r2\":%.4f,\"points\":%d}",
+                    algorithm, distribution, exponent, r2, points);
+        }
+    }
+
+    private final Map<String, Supplier<ConvexHullAlgorithm>> algorithms;
+    private final Set<String> chainOnly; // algorithms that only accept simple chains (Melkman)
+    private final List<String> distributions;
+    private final int warmup;
+    private final long warmupNanos;
+    private final int runs;
+    private final long seed;
+    private final long budgetNanos;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(p -> p.getType() == MemoryType.HEAP).toList();
+
+    /**
+     * @param algorithms   name -> factory, called once per run
+     * @param warmup       minimum number of unmeasured runs per cell ...
+     * @param warmupMillis ... and minimum warmup time per cell, so small n still gets compiled code
+     * @param budgetMillis an algorithm/distribution pair is dropped from larger n once its median exceeds this
+     */
+    public ScalingSweep(Map<String, Supplier<ConvexHullAlgorithm>> algorithms, List<String> distributions,
+                        int warmup, long warmupMillis, int runs, long seed, long budgetMillis) {
+        if (runs < 1) throw new IllegalArgumentException("runs must be >= 1");
+        this.algorithms = algorithms;
+        this.chainOnly = new HashSet<>();
+        algorithms.forEach((name, factory) -> { if (factory.get() instanceof MelkmanHull) chainOnly.add(name); });
+        this.distributions = distributions;
+        this.warmup = warmup;
+        this.warmupNanos = warmupMillis * 1_000_000L;
+        this.runs = runs;
+        this.seed = seed;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        if (threads.isThreadAllocatedMemorySupported()) threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /** n = min, min*factor, ... up to max (inclusive, max is always the last size). */
+    public static int[] geometric(int min, int max, double factor) {
+        if (min < 1 || max < min || factor <= 1) throw new IllegalArgumentException("need 1 <= min <= max and factor > 1");
+        List<Integer> sizes = new ArrayList<>();
+        for (double n = min; n < max; n *= factor) {
+            int rounded = (int) Math.round(n);
+            if (rounded < max && (sizes.isEmpty() || sizes.get(sizes.size() - 1) != rounded)) sizes.add(rounded);
+        }
+        sizes.add(max);
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** Runs the sweep; one progress line per cell goes to {@code progress} (may be null). */
+    public List<SweepResult> run(int[] sizes, PrintStream progress) {
+        List<SweepResult> results = new ArrayList<>();
+        for (String dist : distributions) {
+            boolean chain = dist.equalsIgnoreCase("polygon");
+            Set<String> overBudget = new HashSet<>();
+            for (int n : sizes) {
+                List<Point> points = PointGenerator.distribution(dist, n, seed);
+                for (Map.Entry<String, Supplier<ConvexHullAlgorithm>> e : algorithms.entrySet()) {
+                    if (overBudget.contains(e.getKey())) continue;
+                    if (chainOnly.contains(e.getKey()) && !chain) continue;
+                    SweepResult r = measure(e.getKey(), dist, e.getValue(), points, chain);
+                    results.add(r);
+                    if (progress != null) progress.println(r.summary());
+                    if (r.medianNanos() > budgetNanos) overBudget.add(e.getKey());
+                }
+            }
+        }
+        return results;
+    }
+
+    private SweepResult measure(String name, String dist, Supplier<ConvexHullAlgorithm> factory,
+                                List<Point> points, boolean chain) {
+        int hullSize = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < warmup || System.nanoTime() - start < warmupNanos; i++) {
+            hullSize = factory.get().computeConvexHull(points, chain).size();
+        }
+
+        // instances are created up front, outside the timed and allocation-counted window
+        ConvexHullAlgorithm[] fresh = new ConvexHullAlgorithm[runs];
+        for (int i = 0; i < runs; i++) fresh[i] = factory.get();
+        long[] nanos = new long[runs];
+        System.gc(); // peak heap should reflect this cell, not garbage of the previous ones
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long gcCount0 = gcCount(), gcTime0 = gcMillis();
+        Map<Long, Long> alloc0 = allocatedBytes();
+        for (int i = 0; i < runs; i++) {
+            long t0 = System.nanoTime();
+            List<Point> hull = fresh[i].computeConvexHull(points, chain);
+            nanos[i] = System.nanoTime() - t0;
+            hullSize = hull.size();
+        }
+        long allocated = 0;
+        for (Map.Entry<Long, Long> e : allocatedBytes().entrySet()) {
+            allocated += e.getValue() - alloc0.getOrDefault(e.getKey(), 0L);
+        }
+        long peak = 0;
+        for (MemoryPoolMXBean p : heapPools) peak += p.getPeakUsage().getUsed();
+
+        Arrays.sort(nanos);
+        return new SweepResult(name, dist, points.size(), runs, nanos[runs / 2], nanos[0],
+                Math.max(0, allocated) / runs, gcCount() - gcCount0, gcMillis() - gcTime0, peak, hullSize);
+    }
+
+    /** Allocated bytes per live thread id (empty if the JVM does not support allocation accounting). */
+    private Map<Long, Long> allocatedBytes() {
+        Map<Long, Long> map = new HashMap<>();
+        if (!threads.isThreadAllocatedMemoryEnabled()) return map;
+        long[] ids = threads.getAllThreadIds();
+        long[] bytes = threads.getThreadAllocatedBytes(ids);
+        for (int i = 0; i < ids.length; i++) if (bytes[i] >= 0) map.put(ids[i], bytes[i]);
+        return map;
+    }
+
+    private long gcCount() {
+        long sum = 0;
+        for (GarbageCollectorMXBean gc : collectors) sum += Math.max(0, gc.getCollectionCount());
+        return sum;
+    }
+
+    private long gcMillis() {
+        long sum = 0;
+        for (GarbageCollectorMXBean gc : collectors) sum += Math.max(0, gc.getCollectionTime());
+        return sum;
+    }
+
+    /** Complexity exponent per algorithm and distribution (pairs with fewer than two sizes are skipped). */
+    public static List<Fit> fit(List<SweepResult> results) {
+        Map<String, List<SweepResult>> groups = new LinkedHashMap<>();
+        for (SweepResult r : results) {
+            groups.computeIfAbsent(r.algorithm() + "/" + r.distribution(), k -> new ArrayList<>()).add(r);
+        }
+        List<Fit> fits = new ArrayList<>();
+        for (List<SweepResult> g : groups.values()) {
+            int m = g.size();
+            if (m < 2) continue;
+            double sx = 0, sy = 0, sxx = 0, sxy = 0, syy = 0;
+            for (SweepResult r : g) {
+                double x = Math.log(r.n()), y = Math.log(Math.max(1, r.medianNanos()));
+                sx += x; sy += y; sxx += x * x; sxy += x * y; syy += y * y;
+            }
+            double vx = m * sxx - sx * sx, vy = m * syy - sy * sy, cov = m * sxy - sx * sy;
+            if (vx == 0) continue;
+            double slope = cov / vx;
+            double r2 = vy == 0 ? 1 : cov * cov / (vx * vy);
+            fits.add(new Fit(g.get(0).algorithm(), g.get(0).distribution(), slope, r2, m));
+        }
+        return fits;
+    }
+
+    public static String toCsv(List<SweepResult> results) {
+        StringBuilder sb = new StringBuilder(SweepResult.CSV_HEADER).append('\n');
+        for (SweepResult r : results) sb.append(r.toCsv()).append('\n');
+        return sb.toString();
+    }
+
+    public static String toJson(List<SweepResult> results, List<Fit> fits) {
+        StringJoiner res = new StringJoiner(",\n    ", "[\n    ", "\n  ]");
+        for (SweepResult r : results) res.add(r.toJson());
+        StringJoiner fit = new StringJoiner(",\n    ", "[\n    ", "\n  ]");
+        for (Fit f : fits) fit.add(f.toJson());
+        return "{\n  \"results\": " + res + ",\n  \"fits\": " + fit + "\n}\n";
+    }
+
+    /** Reads a CSV report written by {@link #toCsv} (e.g. the baseline of a CI run). */
+    public static List<SweepResult> readCsv(Path file) throws IOException {
+        List<SweepResult> results = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (line.isBlank() || line.startsWith(SweepResult.CSV_HEADER)) continue;
+            results.add(SweepResult.fromCsv(line.trim()));
+        }
+        return results;
+    }
+
+    /**
+     * Cells that got slower or allocate more than baseline * (1 + tolerance). Cells missing on
+     * either side are ignored. Allocation is the more stable signal on shared CI machines.
+     */
+    public static List<String> regressions(List<SweepResult> current, List<SweepResult> baseline, double tolerance) {
+        Map<String, SweepResult> base = new HashMap<>();
+        for (SweepResult b : baseline) base.put(b.key(), b);
+        List<String> out = new ArrayList<>();
+        for (SweepResult c : current) {
+            SweepResult b = base.get(c.key());
+            if (b == null) continue;
+            if (c.medianNanos() > b.medianNanos() * (1 + tolerance)) {
+                out.add(String.format(Locale.ROOT, "%s: median %.3f ms -> %.3f ms",
+                        c.key(), b.medianNanos() / 1e6, c.medianNanos() / 1e6));
+            }
+            if (c.allocatedBytes() > b.allocatedBytes() * (1 + tolerance)) {
+                out.add(String.format(Locale.ROOT, "%s: alloc %d B -> %d B",
+                        c.key(), b.allocatedBytes(), c.allocatedBytes()));
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,50 @@
+package benchmark;
+
+import java.util.Locale;
+
+/**
+ * One cell of a scaling sweep: an algorithm on one distribution at one n.
+ * Times are per run (median/min over the measured runs), allocation is the mean per run,
+ * GC counters are totals over all measured runs, peak heap includes the input points.
+ */
+public record SweepResult(String algorithm, String distribution, int n, int runs,
+                          long medianNanos, long minNanos, long allocatedBytes,
+                          long gcCount, long gcMillis, long peakHeapBytes, int hullSize) {
+
+    public static final String CSV_HEADER =
+            "algorithm,distribution,n,runs,median_ns,min_ns,alloc_bytes,gc_count,gc_ms,peak_heap_bytes,hull_size";
+
+    public String key() {
+        return algorithm + "/" + distribution + "/" + n;
+    }
+
+    public String toCsv() {
+        return String.join(",", algorithm, distribution, String.valueOf(n), String.valueOf(runs),
+                String.valueOf(medianNanos), String.valueOf(minNanos), String.valueOf(allocatedBytes),
+                String.valueOf(gcCount), String.valueOf(gcMillis), String.valueOf(peakHeapBytes),
+                String.valueOf(hullSize));
+    }
+
+    public static SweepResult fromCsv(String line) {
+        String[] f = line.split(",");
+        if (f.length != 11) throw new IllegalArgumentException("not a sweep CSV row: " + line);
+        return new SweepResult(f[0], f[1], Integer.parseInt(f[2]), Integer.parseInt(f[3]),
+                Long.parseLong(f[4]), Long.parseLong(f[5]), Long.parseLong(f[6]),
+                Long.parseLong(f[7]), Long.parseLong(f[8]), Long.parseLong(f[9]), Integer.parseInt(f[10]));
+    }
+
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"algorithm\":\"%s\",\"distribution\":\"%s\",\"n\":%d,\"runs\":%d,\"median_ns\":%d,\"min_ns\":%d,"
+                        + "\"alloc_bytes\":%d,\"gc_count\":%d,\"gc_ms\":%d,\"peak_heap_bytes\":%d,\"hull_size\":%d}",
+                algorithm, distribution, n, runs, medianNanos, minNanos, allocatedBytes,
+                gcCount, gcMillis, peakHeapBytes, hullSize);
+    }
+
+    /** Human-readable line in the style of the other perf outputs. */
+    public String summary() {
+        return String.format(Locale.ROOT, "Algorithm: %s | dist=%s | n=%d | h=%d | median=%.3f ms | alloc=%d B/run | gc=%d (%d ms) | peak heap=%d MB",
+                algorithm, distribution, n, hullSize, medianNanos / 1e6, allocatedBytes,
+                gcCount, gcMillis, peakHeapBytes >> 20);
+    }
+}
@@ -0,0 +1,20 @@
+package geometry;
+
+/**
+ * Immutable 2D point of the headless core (replaces java.awt.geom.Point2D, so the core does not need java.desktop).
+ * Accessors follow the Point2D naming used throughout the algorithms.
+ */
+public record Point(double x, double y) {
+
+    public double getX() { return x; }
+    public double getY() { return y; }
+
+    public double distance(double px, double py) {
+        double dx = px - x, dy = py - y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    public double distance(Point p) {
+        return distance(p.x, p.y);
+    }
+}
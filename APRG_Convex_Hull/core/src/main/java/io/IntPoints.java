@@ -0,0 +1,90 @@
+package io;
+
+import geometry.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Integer point set stored as primitive coordinate arrays (struct of arrays).
+ *
+ * - Uses int[] when every coordinate fits into 32 bits, long[] otherwise.
+ * - Coordinates are limited to |c| < 2^62 so that coordinate differences never overflow a long.
+ */
+public final class IntPoints {
+    /** Largest absolute coordinate accepted (differences must fit into a signed long). */
+    public static final long MAX_ABS = (1L << 62) - 1;
+
+    private final int[] xi, yi;   // compact storage (null if wide)
+    private final long[] xl, yl;  // wide storage (null if compact)
+    private final int n;
+
+    private IntPoints(int[] xi, int[] yi, long[] xl, long[] yl, int n) {
+        this.xi = xi; this.yi = yi; this.xl = xl; this.yl = yl; this.n = n;
+    }
+
+    /** Wraps the given coordinates; picks int[] storage when possible. The first n entries are used. */
+    public static IntPoints of(long[] xs, long[] ys, int n) {
+        boolean compact = true;
+        for (int i = 0; i < n; i++) {
+            if (xs[i] < -MAX_ABS || xs[i] > MAX_ABS || ys[i] < -MAX_ABS || ys[i] > MAX_ABS)
+                throw new IllegalArgumentException("coordinate out of range ±(2^62-1) at index " + i);
+            if (xs[i] != (int) xs[i] || ys[i] != (int) ys[i]) compact = false;
+        }
+        if (!compact) return new IntPoints(null, null, Arrays.copyOf(xs, n), Arrays.copyOf(ys, n), n);
+        int[] xi = new int[n], yi = new int[n];
+        for (int i = 0; i < n; i++) { xi[i] = (int) xs[i]; yi[i] = (int) ys[i]; }
+        return new IntPoints(xi, yi, null, null, n);
+    }
+
+    public static IntPoints of(int[] xs, int[] ys) {
+        if (xs.length != ys.length) throw new IllegalArgumentException("length mismatch");
+        return new IntPoints(xs, ys, null, null, xs.length);
+    }
+
+    /** Converts points with integral coordinates; throws IllegalArgumentException on fractional values. */
+    public static IntPoints fromPoints(List<Point> pts) {
+        int n = pts.size();
+        long[] xs = new long[n], ys = new long[n];
+        for (int i = 0; i < n; i++) {
+            Point p = pts.get(i);
+            xs[i] = toLongExact(p.getX());
+            ys[i] = toLongExact(p.getY());
+        }
+        return of(xs, ys, n);
+    }
+
+    private static long toLongExact(double v) {
+        long l = (long) v;
+        if (l != v || Math.abs(v) > MAX_ABS) throw new IllegalArgumentException("not an integral coordinate: " + v);
+        return l;
+    }
+
+    public int size() { return n; }
+
+    /** True if coordinates are stored as int[] (half the memory of long[]). */
+    public boolean isCompact() { return xi != null; }
+
+    public long x(int i) { return xi != null ? xi[i] : xl[i]; }
+    public long y(int i) { return yi != null ? yi[i] : yl[i]; }
+
+    /** Subset in the given index order. */
+    public IntPoints select(int[] idx, int count) {
+        if (xi != null) {
+            int[] x = new int[count], y = new int[count];
+            for (int k = 0; k < count; k++) { x[k] = xi[idx[k]]; y[k] = yi[idx[k]]; }
+            return new IntPoints(x, y, null, null, count);
+        }
+        long[] x = new long[count], y = new long[count];
+        for (int k = 0; k < count; k++) { x[k] = xl[idx[k]]; y[k] = yl[idx[k]]; }
+        return new IntPoints(null, null, x, y, count);
+    }
+
+    /** Boxed copy for the double pipeline / UI (exact up to 2^53). */
+    public List<Point> toPoints() {
+        List<Point> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) out.add(new Point(x(i), y(i)));
+        return out;
+    }
+}
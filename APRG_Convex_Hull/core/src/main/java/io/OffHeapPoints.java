@@ -0,0 +1,90 @@
+package io;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Point store outside the Java heap, backed by a {@link MemorySegment} (FFM API) and indexed by long.
+ *
+ * Layout (also the binary file format, no header): n pairs of little-endian doubles x0,y0,x1,y1,...
+ * - {@link #map(Path)} maps an existing file read-only; nothing is copied onto the heap.
+ * - {@link #create(Path, long)} maps a new file read-write, {@link #allocate(long)} does the same with a
+ *   temporary file (deleted on close). Mapped files do not count against -XX:MaxDirectMemorySize, which
+ *   defaults to -Xmx and would cap Arena.allocate at the heap size.
+ * The segment lives as long as this store; {@link #close()} unmaps/frees it (shared arena, any thread may read).
+ */
+public final class OffHeapPoints implements AutoCloseable {
+    private static final ValueLayout.OfDouble COORD = ValueLayout.JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final long POINT_BYTES = 2 * Double.BYTES;
+
+    private final Arena arena;
+    private final MemorySegment seg;
+    private final long n;
+    private Path tempFile;
+
+    private OffHeapPoints(Arena arena, MemorySegment seg) {
+        this.arena = arena;
+        this.seg = seg;
+        this.n = seg.byteSize() / POINT_BYTES;
+    }
+
+    /** Store for n points in a temporary file under java.io.tmpdir. */
+    public static OffHeapPoints allocate(long n) throws IOException {
+        Path tmp = Files.createTempFile("hull-points", ".bin");
+        try {
+            OffHeapPoints store = create(tmp, n);
+            store.tempFile = tmp;
+            return store;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    public static OffHeapPoints map(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size % POINT_BYTES != 0) throw new IOException(file + ": size " + size + " is not a multiple of " + POINT_BYTES);
+            Arena arena = Arena.ofShared();
+            return new OffHeapPoints(arena, ch.map(FileChannel.MapMode.READ_ONLY, 0, size, arena));
+        }
+    }
+
+    public static OffHeapPoints create(Path file, long n) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            Arena arena = Arena.ofShared();
+            return new OffHeapPoints(arena, ch.map(FileChannel.MapMode.READ_WRITE, 0, n * POINT_BYTES, arena));
+        }
+    }
+
+    public long size() { return n; }
+
+    public double x(long i) { return seg.get(COORD, i * POINT_BYTES); }
+    public double y(long i) { return seg.get(COORD, i * POINT_BYTES + Double.BYTES); }
+
+    public void set(long i, double x, double y) {
+        seg.set(COORD, i * POINT_BYTES, x);
+        seg.set(COORD, i * POINT_BYTES + Double.BYTES, y);
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+        if (tempFile != null) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io;
+
+import geometry.Point;
+
+import java.util.*;
+
+public class PointGenerator {
+    public static List<Point> uniformRandom(int n, double minX, double maxX, double minY, double maxY, long seed) {
+        Random rnd = new Random(seed);
+        List<Point> pts = new ArrayList<>(n);
+        for (int i=0;i<n;i++){
+            double x = minX + rnd.nextDouble() * (maxX - minX);
+            double y = minY + rnd.nextDouble() * (maxY - minY);
+            pts.add(new Point(x,y));
+        }
+        return pts;
+    }
+
+    /** Points on a circle (every point is a hull vertex: worst case for Jarvis). */
+    public static List<Point> onCircle(int n, double cx, double cy, double r, long seed) {
+        Random rnd = new Random(seed);
+        List<Point> pts = new ArrayList<>(n);
+        for (int i=0;i<n;i++){
+            double a = rnd.nextDouble() * 2 * Math.PI;
+            pts.add(new Point(cx + r * Math.cos(a), cy + r * Math.sin(a)));
+        }
+        return pts;
+    }
+
+    /** Simple (star-shaped) polygon: random radii at increasing angles, in boundary order. */
+    public static List<Point> starPolygon(int n, double cx, double cy, double rMin, double rMax, long seed) {
+        Random rnd = new Random(seed);
+        double[] angles = new double[n];
+        for (int i=0;i<n;i++) angles[i] = rnd.nextDouble() * 2 * Math.PI;
+        Arrays.sort(angles);
+        List<Point> pts = new ArrayList<>(n);
+        for (double a : angles){
+            double r = rMin + rnd.nextDouble() * (rMax - rMin);
+            pts.add(new Point(cx + r * Math.cos(a), cy + r * Math.sin(a)));
+        }
+        return pts;
+    }
+
+    /** Named test distribution as used by the CLI (--dist): uniform (default), circle or polygon (simple chain). */
+    public static List<Point> distribution(String dist, int n, long seed) {
+        if (dist.equalsIgnoreCase("circle")) return onCircle(n, 5.5, 5.5, 4.5, seed);
+        if (dist.equalsIgnoreCase("polygon")) return starPolygon(n, 5.5, 5.5, 2, 4.5, seed);
+        return uniformRandom(n, 1, 10, 1, 10, seed);
+    }
+
+    /** Frame series starting at {@code start}: each frame moves every point by up to ±motion per coordinate. */
+    public static List<List<Point>> driftingFrames(List<Point> start, int frames, double motion, long seed) {
+        Random rnd = new Random(seed);
+        List<List<Point>> out = new ArrayList<>(frames);
+        List<Point> cur = start;
+        out.add(cur);
+        for (int f=1;f<frames;f++){
+            List<Point> next = new ArrayList<>(cur.size());
+            for (Point p : cur) {
+                double dx = (rnd.nextDouble() * 2 - 1) * motion;
+                double dy = (rnd.nextDouble() * 2 - 1) * motion;
+                next.add(new Point(p.getX()+dx, p.getY()+dy));
+            }
+            out.add(next);
+            cur = next;
+        }
+        return out;
+    }
+
+    /** Uniform random integer grid points in [min, max] for both coordinates. */
+    public static IntPoints uniformRandomInt(int n, int min, int max, long seed) {
+        Random rnd = new Random(seed);
+        int[] xs = new int[n], ys = new int[n];
+        for (int i=0;i<n;i++){
+            xs[i] = min + rnd.nextInt(max - min + 1);
+            ys[i] = min + rnd.nextInt(max - min + 1);
+        }
+        return IntPoints.of(xs, ys);
+    }
+
+    /** Fills an off-heap store with points on a circle (same distribution as {@link #onCircle}). */
+    public static void onCircle(OffHeapPoints out, double cx, double cy, double r, long seed) {
+        Random rnd = new Random(seed);
+        for (long i=0;i<out.size();i++){
+            double a = rnd.nextDouble() * 2 * Math.PI;
+            out.set(i, cx + r * Math.cos(a), cy + r * Math.sin(a));
+        }
+    }
+
+    /** Fills an off-heap store with uniform random points (no heap allocation per point). */
+    public static void uniformRandom(OffHeapPoints out, double minX, double maxX, double minY, double maxY, long seed) {
+        Random rnd = new Random(seed);
+        for (long i=0;i<out.size();i++){
+            double x = minX + rnd.nextDouble() * (maxX - minX);
+            double y = minY + rnd.nextDouble() * (maxY - minY);
+            out.set(i, x, y);
+        }
+    }
+}
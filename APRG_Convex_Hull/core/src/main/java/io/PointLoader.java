@@ -0,0 +1,58 @@
+package io;
+
+import geometry.Point;
+
+import java.io.*;
+import java.util.*;
+
+public class PointLoader {
+    /**
+     * Format lt. Angabe:
+     * Zeile 1: n
+     * Zeile 2..n+1: x,y (Float/Doubles) – Komma-separiert
+     */
+    public static List<Point> load(File f) throws IOException {
+        try (BufferedReader br = new BufferedReader(new FileReader(f))) {
+            String line = br.readLine();
+            if (line == null) return List.of();
+            int n = Integer.parseInt(line.trim());
+            List<Point> pts = new ArrayList<>(n);
+            for (int i=0;i<n;i++){
+                String s = br.readLine();
+                if (s==null) break;
+                String[] parts = s.split(",");
+                double x = Double.parseDouble(parts[0].trim());
+                double y = Double.parseDouble(parts[1].trim());
+                pts.add(new Point(x,y));
+            }
+            return pts;
+        }
+    }
+
+    /**
+     * Same format as {@link #load(File)}, read into an integer point set.
+     * Returns null if any coordinate is not an integer literal (then the file is not integral and
+     * should be read with {@link #load(File)}).
+     */
+    public static IntPoints loadIntegral(File f) throws IOException {
+        try (BufferedReader br = new BufferedReader(new FileReader(f))) {
+            String line = br.readLine();
+            if (line == null) return IntPoints.of(new int[0], new int[0]);
+            int n = Integer.parseInt(line.trim());
+            long[] xs = new long[n], ys = new long[n];
+            int count = 0;
+            try {
+                for (;count<n;count++){
+                    String s = br.readLine();
+                    if (s==null) break;
+                    String[] parts = s.split(",");
+                    xs[count] = Long.parseLong(parts[0].trim());
+                    ys[count] = Long.parseLong(parts[1].trim());
+                }
+                return IntPoints.of(xs, ys, count);
+            } catch (IllegalArgumentException e) {
+                return null; // fractional, exponent or out-of-range coordinate
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package server;
+
+import geometry.Point;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wire format of the hull server. A connection carries any number of requests, each answered in order.
+ *
+ * Text (same layout as {@link io.PointLoader} files):
+ *   request:  line "n", then n lines "x,y"          | line "STATS" for a server summary
+ *   response: line "h", then h lines "x,y" (CCW)    | "ERR message" on malformed input
+ *
+ * Binary (big-endian, packed):
+ *   request:  int MAGIC, int n, n * (double x, double y)
+ *   response: int MAGIC, int h, long computeNanos, h * (double x, double y)
+ *
+ * Errors (malformed or negative n, n above the server limit) are answered with the text line
+ * "ERR message" in both formats, after which the server closes the connection.
+ * The server tells the formats apart by the first byte: 'H' (first byte of MAGIC) means binary, so a
+ * malformed text request starting with 'H' is answered with "ERR bad magic" rather than "malformed request".
+ */
+public final class HullProtocol {
+    /** "HULL" in ASCII; never a valid first byte of a text request. */
+    public static final int MAGIC = 0x48554C4C;
+
+    private HullProtocol() {}
+
+    /* ------------------------ Binary ------------------------ */
+
+    public static void writeBinaryRequest(DataOutputStream out, List<Point> pts) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(pts.size());
+        for (Point p : pts) { out.writeDouble(p.getX()); out.writeDouble(p.getY()); }
+        out.flush();
+    }
+
+    /** "ERR " in ASCII: first four bytes of an error line where a binary response was expected. */
+    private static final int ERR = 0x45525220;
+
+    /** Reads the n points of a binary request (count already consumed). */
+    public static List<Point> readBinaryPoints(DataInputStream in, int n) throws IOException {
+        List<Point> pts = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) pts.add(new Point(in.readDouble(), in.readDouble()));
+        return pts;
+    }
+
+    public static void writeBinaryResponse(DataOutputStream out, List<Point> hull, long computeNanos) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(hull.size());
+        out.writeLong(computeNanos);
+        for (Point p : hull) { out.writeDouble(p.getX()); out.writeDouble(p.getY()); }
+        out.flush();
+    }
+
+    public static List<Point> readBinaryResponse(DataInputStream in) throws IOException {
+        int magic = in.readInt();
+        if (magic == ERR) throw new IOException("ERR " + readLine(in));
+        if (magic != MAGIC) throw new IOException("bad response magic: " + Integer.toHexString(magic));
+        int h = in.readInt();
+        in.readLong(); // server-side compute time, not needed by the client
+        List<Point> hull = new ArrayList<>(h);
+        for (int i = 0; i < h; i++) hull.add(new Point(in.readDouble(), in.readDouble()));
+        return hull;
+    }
+
+    /* ------------------------ Text ------------------------ */
+
+    public static void writeTextPoints(OutputStream out, List<Point> pts) throws IOException {
+        StringBuilder sb = new StringBuilder(pts.size() * 24);
+        sb.append(pts.size()).append('\n');
+        for (Point p : pts) sb.append(p.getX()).append(',').append(p.getY()).append('\n');
+        out.write(sb.toString().getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /** Point count of a text request; {@code header} is its first line. */
+    public static int parseTextCount(String header) throws IOException {
+        int n = Integer.parseInt(header.trim());
+        if (n < 0) throw new IOException("negative point count: " + n);
+        return n;
+    }
+
+    /** Reads "n" followed by n lines "x,y"; {@code header} is the already consumed first line. */
+    public static List<Point> readTextPoints(String header, InputStream in) throws IOException {
+        return readTextPoints(parseTextCount(header), in);
+    }
+
+    /** Reads n lines "x,y" (header line already consumed). */
+    public static List<Point> readTextPoints(int n, InputStream in) throws IOException {
+        List<Point> pts = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String s = readLine(in);
+            if (s == null) throw new EOFException("expected " + n + " points, got " + i);
+            String[] parts = s.split(",");
+            pts.add(new Point(Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim())));
+        }
+        return pts;
+    }
+
+    public static List<Point> readTextResponse(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) throw new EOFException("connection closed");
+        if (header.startsWith("ERR")) throw new IOException(header);
+        return readTextPoints(header, in);
+    }
+
+    /** ASCII line reader that does not buffer beyond '\n', so binary frames can follow on the same stream. */
+    public static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') return sb.toString();
+            if (c != '\r') sb.append((char) c);
+        }
+        return sb.isEmpty() ? null : sb.toString();
+    }
+}
@@ -0,0 +1,186 @@
+package server;
+
+import algorithm.ConvexHullAlgorithm;
+import geometry.Point;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Long-running local hull server (see {@link HullProtocol} for the wire format).
+ *
+ * - One virtual thread per connection; requests on a connection are answered in order.
+ * - Each connection gets its own algorithm instance, so stateful (warm-started) algorithms keep the
+ *   state of their client's frame series and do not serialize unrelated connections.
+ * - At most {@code maxConcurrent} hulls are computed at the same time. A connection waiting for a permit
+ *   stops reading, so its client is throttled by TCP flow control (backpressure).
+ * - At most {@code maxConnections} connections are served; further clients wait in the accept backlog.
+ * - Requests with more than {@code maxPoints} points are answered with "ERR" before their payload is read.
+ *   Payloads are only read once their points fit into the in-flight budget of maxPoints * maxConcurrent,
+ *   so memory is bounded by that budget and not by what clients send.
+ */
+public class HullServer implements Closeable {
+    private final Supplier<ConvexHullAlgorithm> algorithms;
+    private final ServerSocket serverSocket;
+    private final Semaphore computePermits;
+    private final Semaphore connectionPermits;
+    private final Semaphore pointBudget;
+    private final int maxPoints;
+    private final LatencyStats stats = new LatencyStats(1 << 16);
+
+    /** Default request size limit (about 40 MB of points on the heap). */
+    public static final int DEFAULT_MAX_POINTS = 1 << 20;
+
+    public HullServer(Supplier<ConvexHullAlgorithm> algorithms, int port, int maxConcurrent, int maxConnections) throws IOException {
+        this(algorithms, port, maxConcurrent, maxConnections, DEFAULT_MAX_POINTS);
+    }
+
+    public HullServer(Supplier<ConvexHullAlgorithm> algorithms, int port, int maxConcurrent, int maxConnections, int maxPoints) throws IOException {
+        this.algorithms = algorithms;
+        this.serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+        this.computePermits = new Semaphore(Math.max(1, maxConcurrent));
+        this.connectionPermits = new Semaphore(Math.max(1, maxConnections));
+        this.maxPoints = Math.max(1, maxPoints);
+        this.pointBudget = new Semaphore((int) Math.min(Integer.MAX_VALUE, (long) this.maxPoints * Math.max(1, maxConcurrent)), true);
+    }
+
+    public int port() { return serverSocket.getLocalPort(); }
+
+    public LatencyStats stats() { return stats; }
+
+    /** Accept loop; blocks until {@link #close()} is called. */
+    public void serve() throws IOException {
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (!serverSocket.isClosed()) {
+                connectionPermits.acquireUninterruptibly();
+                Socket s;
+                try {
+                    s = serverSocket.accept();
+                } catch (IOException e) {
+                    connectionPermits.release();
+                    if (serverSocket.isClosed()) break;
+                    throw e;
+                }
+                pool.submit(() -> {
+                    try (s) {
+                        handle(s);
+                    } catch (IOException e) {
+                        System.err.println("Connection error: " + e.getMessage());
+                    } catch (Throwable t) {
+                        // submit() would keep this in an unread Future
+                        System.err.println("Connection aborted: " + t);
+                    } finally {
+                        connectionPermits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void handle(Socket s) throws IOException {
+        s.setTcpNoDelay(true);
+        BufferedInputStream in = new BufferedInputStream(s.getInputStream(), 1 << 16);
+        DataInputStream din = new DataInputStream(in);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream(), 1 << 16));
+        ConvexHullAlgorithm algo = algorithms.get();
+
+        while (true) {
+            in.mark(1);
+            int first = in.read();
+            if (first == -1) return;
+            in.reset();
+
+            if (first == (HullProtocol.MAGIC >>> 24)) {
+                int magic = din.readInt();
+                if (magic != HullProtocol.MAGIC) {
+                    writeError(out, "bad magic " + Integer.toHexString(magic)
+                            + " (a request starting with 'H' is read as binary)");
+                    return;
+                }
+                int n = din.readInt();
+                if (!admit(out, n)) return;
+                try {
+                    List<Point> pts = HullProtocol.readBinaryPoints(din, n);
+                    long t0 = System.nanoTime();
+                    List<Point> hull = compute(algo, pts);
+                    HullProtocol.writeBinaryResponse(out, hull, System.nanoTime() - t0);
+                } finally {
+                    pointBudget.release(n);
+                }
+            } else {
+                String header = HullProtocol.readLine(in);
+                if (header == null) return;
+                if (header.isBlank()) continue;
+                if (header.trim().equalsIgnoreCase("STATS")) {
+                    out.write((stats.summary() + "\n").getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                    continue;
+                }
+                int n;
+                try {
+                    n = Integer.parseInt(header.trim());
+                } catch (NumberFormatException e) {
+                    writeError(out, "malformed request: " + e.getMessage());
+                    return;
+                }
+                if (!admit(out, n)) return;
+                try {
+                    List<Point> pts;
+                    try {
+                        pts = HullProtocol.readTextPoints(n, in);
+                    } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                        writeError(out, "malformed request: " + e.getMessage());
+                        return;
+                    }
+                    HullProtocol.writeTextPoints(out, compute(algo, pts));
+                } finally {
+                    pointBudget.release(n);
+                }
+            }
+        }
+    }
+
+    /** Rejects negative and oversized counts with ERR, otherwise waits until n points fit into the in-flight budget. */
+    private boolean admit(DataOutputStream out, int n) throws IOException {
+        if (n < 0) {
+            writeError(out, "malformed request: negative point count " + n);
+            return false;
+        }
+        if (n > maxPoints) {
+            writeError(out, "too many points: " + n + " > " + maxPoints);
+            return false;
+        }
+        pointBudget.acquireUninterruptibly(n);
+        return true;
+    }
+
+    /** Computes one hull under the concurrency limit and records its latency (including the wait). */
+    private List<Point> compute(ConvexHullAlgorithm algo, List<Point> pts) {
+        long t0 = System.nanoTime();
+        computePermits.acquireUninterruptibly();
+        try {
+            return algo.computeConvexHull(pts);
+        } finally {
+            computePermits.release();
+            stats.record(System.nanoTime() - t0, pts.size());
+        }
+    }
+
+    private static void writeError(DataOutputStream out, String msg) throws IOException {
+        out.write(("ERR " + msg + "\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
@@ -0,0 +1,47 @@
+package server;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Thread-safe latency/throughput recorder.
+ *
+ * - Keeps the last {@code capacity} samples in a ring buffer for percentiles (p50/p99).
+ * - Counts all requests and points since construction for throughput.
+ */
+public class LatencyStats {
+    private final long[] samples;
+    private final long startNanos = System.nanoTime();
+    private long count;
+    private long points;
+
+    public LatencyStats(int capacity) {
+        this.samples = new long[Math.max(1, capacity)];
+    }
+
+    public synchronized void record(long nanos, int pointCount) {
+        samples[(int) (count % samples.length)] = nanos;
+        count++;
+        points += pointCount;
+    }
+
+    public synchronized long count() { return count; }
+
+    /** Latency percentile in milliseconds (0 if nothing recorded). */
+    public synchronized double percentileMillis(double p) {
+        int size = (int) Math.min(count, samples.length);
+        if (size == 0) return 0.0;
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(p / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, idx))] / 1_000_000.0;
+    }
+
+    /** One-line summary: requests, p50/p99 latency and throughput since start. */
+    public synchronized String summary() {
+        double secs = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        return String.format(Locale.ROOT,
+                "requests=%d | p50=%.3f ms | p99=%.3f ms | throughput=%.1f req/s, %.0f points/s",
+                count, percentileMillis(50), percentileMillis(99), count / secs, points / secs);
+    }
+}
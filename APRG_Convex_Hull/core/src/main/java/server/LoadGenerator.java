@@ -0,0 +1,59 @@
+package server;
+
+import geometry.Point;
+import io.PointGenerator;
+
+import java.io.*;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Local load generator for {@link HullServer}.
+ * Each client runs on its own virtual thread, keeps one connection open and sends its requests back-to-back,
+ * so the number of clients is the number of requests in flight.
+ */
+public class LoadGenerator {
+
+    /** Runs the load and returns client-side latency stats (including network and queueing). */
+    public static LatencyStats run(String host, int port, int clients, int requestsPerClient,
+                                   int n, boolean binary, long seed) throws Exception {
+        LatencyStats stats = new LatencyStats(clients * requestsPerClient);
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                // distinct data per client, same data for all requests of a client
+                List<Point> pts = PointGenerator.uniformRandom(n, 1, 10, 1, 10, seed + c);
+                futures.add(pool.submit(() -> {
+                    client(host, port, requestsPerClient, pts, binary, stats);
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        }
+        return stats;
+    }
+
+    private static void client(String host, int port, int requests, List<Point> pts,
+                               boolean binary, LatencyStats stats) throws IOException {
+        try (Socket s = new Socket(host, port)) {
+            s.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream(), 1 << 16));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream(), 1 << 16));
+            for (int i = 0; i < requests; i++) {
+                long t0 = System.nanoTime();
+                if (binary) {
+                    HullProtocol.writeBinaryRequest(out, pts);
+                    HullProtocol.readBinaryResponse(in);
+                } else {
+                    HullProtocol.writeTextPoints(out, pts);
+                    HullProtocol.readTextResponse(in);
+                }
+                stats.record(System.nanoTime() - t0, pts.size());
+            }
+        }
+    }
+}
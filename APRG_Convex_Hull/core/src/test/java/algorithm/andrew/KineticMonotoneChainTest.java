@@ -0,0 +1,52 @@
+package algorithm.andrew;
+
+import geometry.Point;
+import io.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KineticMonotoneChainTest {
+
+    /** Small motion keeps the insertion-sort repair, large motion exceeds its budget and falls back to merge sort. */
+    @Test
+    void warmFramesMatchAndrew() {
+        for (double motion : new double[]{1e-5, 1e-2, 1.0}) {
+            List<List<Point>> frames = PointGenerator.driftingFrames(
+                    PointGenerator.uniformRandom(20_000, 1, 10, 1, 10, 1), 8, motion, 2);
+            assertFramesMatchAndrew(frames, "motion " + motion);
+        }
+    }
+
+    /** Warm state must not leak into a frame of a different size or into unrelated input of the same size. */
+    @Test
+    void resizedAndUnrelatedFramesMatchAndrew() {
+        List<List<Point>> frames = new ArrayList<>(PointGenerator.driftingFrames(
+                PointGenerator.uniformRandom(5000, 1, 10, 1, 10, 3), 3, 1e-4, 4));
+        frames.add(PointGenerator.uniformRandom(3000, 1, 10, 1, 10, 5));      // different size
+        frames.add(PointGenerator.onCircle(3000, 5.5, 5.5, 4.5, 6));          // unrelated, same size
+        frames.add(PointGenerator.uniformRandom(3000, -100, 100, 50, 60, 7)); // unrelated, same size
+        assertFramesMatchAndrew(frames, "mixed series");
+    }
+
+    @Test
+    void resetStartsCold() {
+        KineticMonotoneChain kinetic = new KineticMonotoneChain();
+        List<Point> a = PointGenerator.uniformRandom(4000, 1, 10, 1, 10, 8);
+        List<Point> b = PointGenerator.onCircle(4000, 5.5, 5.5, 4.5, 9);
+        kinetic.computeConvexHull(a);
+        kinetic.reset();
+        assertEquals(new AndrewMonotoneChain().computeConvexHull(b), kinetic.computeConvexHull(b));
+    }
+
+    private static void assertFramesMatchAndrew(List<List<Point>> frames, String label) {
+        KineticMonotoneChain kinetic = new KineticMonotoneChain();
+        for (int f = 0; f < frames.size(); f++) {
+            assertEquals(new AndrewMonotoneChain().computeConvexHull(frames.get(f)),
+                    kinetic.computeConvexHull(frames.get(f)), label + ", frame " + f);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package algorithm.approx;
+
+import geometry.Point;
+import io.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripApproximateHullTest {
+    private static final double TOL = 1e-9;
+
+    @Test
+    void measuredErrorWithinBoundForBuckets() {
+        for (int buckets : new int[]{1, 4, 16, 256}) {
+            for (long seed = 1; seed <= 3; seed++) {
+                assertWithinBound(new StripApproximateHull(buckets), PointGenerator.uniformRandom(20_000, 1, 10, 1, 10, seed));
+                assertWithinBound(new StripApproximateHull(buckets), PointGenerator.onCircle(5000, 5.5, 5.5, 4.5, seed));
+            }
+        }
+    }
+
+    @Test
+    void measuredErrorWithinBoundForEpsilon() {
+        for (double eps : new double[]{1.0, 0.1, 1e-3, 1e-6}) {
+            for (long seed = 1; seed <= 3; seed++) {
+                assertWithinBound(StripApproximateHull.withEpsilon(eps), PointGenerator.uniformRandom(20_000, 1, 10, 1, 10, seed));
+                assertWithinBound(StripApproximateHull.withEpsilon(eps), PointGenerator.onCircle(5000, 5.5, 5.5, 4.5, seed));
+            }
+        }
+    }
+
+    /** Only exact-hull vertices are measured; the result must equal the distance of the farthest input point. */
+    @Test
+    void measuredErrorMatchesNaive() {
+        for (int buckets : new int[]{1, 2, 3, 8, 64}) {
+            for (long seed = 1; seed <= 5; seed++) {
+                for (List<Point> pts : List.of(PointGenerator.onCircle(2000, 5.5, 5.5, 4.5, seed),
+                        PointGenerator.uniformRandom(2000, 1, 10, 1, 10, seed))) {
+                    List<Point> hull = new StripApproximateHull(buckets).computeConvexHull(pts);
+                    assertEquals(naiveError(pts, hull), StripApproximateHull.measuredError(pts, hull), TOL,
+                            "buckets " + buckets + ", seed " + seed);
+                }
+            }
+        }
+    }
+
+    private static void assertWithinBound(StripApproximateHull approx, List<Point> pts) {
+        List<Point> hull = approx.computeConvexHull(pts);
+        assertTrue(StripApproximateHull.measuredError(pts, hull) <= approx.lastErrorBound() + TOL,
+                "measured error above bound " + approx.lastErrorBound());
+    }
+
+    /** Distance of every point outside the hull to every edge. */
+    private static double naiveError(List<Point> pts, List<Point> hull) {
+        int h = hull.size();
+        double max = 0;
+        for (Point p : pts) {
+            boolean inside = true;
+            for (int i = 0; i < h && inside; i++) inside = cross(hull.get(i), hull.get((i + 1) % h), p) >= 0;
+            if (inside) continue;
+            double best = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < h; i++) best = Math.min(best, segmentDistance(p, hull.get(i), hull.get((i + 1) % h)));
+            max = Math.max(max, best);
+        }
+        return max;
+    }
+
+    private static double cross(Point a, Point b, Point c) {
+        return (b.getX() - a.getX()) * (c.getY() - a.getY()) - (b.getY() - a.getY()) * (c.getX() - a.getX());
+    }
+
+    private static double segmentDistance(Point p, Point a, Point b) {
+        double dx = b.getX() - a.getX(), dy = b.getY() - a.getY();
+        double len2 = dx * dx + dy * dy;
+        double t = len2 == 0 ? 0 : Math.max(0, Math.min(1, ((p.getX() - a.getX()) * dx + (p.getY() - a.getY()) * dy) / len2));
+        return p.distance(a.getX() + t * dx, a.getY() + t * dy);
+    }
+}
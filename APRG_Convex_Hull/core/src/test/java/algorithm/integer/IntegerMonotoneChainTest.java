@@ -0,0 +1,63 @@
+package algorithm.integer;
+
+import algorithm.andrew.AndrewMonotoneChain;
+import geometry.Point;
+import io.IntPoints;
+import io.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegerMonotoneChainTest {
+
+    @Test
+    void matchesAndrewOnSmallIntegers() {
+        for (long seed = 1; seed <= 5; seed++) {
+            IntPoints pts = PointGenerator.uniformRandomInt(2000, 0, 1000, seed);
+            assertEquals(new AndrewMonotoneChain().computeConvexHull(pts.toPoints()),
+                    new IntegerMonotoneChain().computeConvexHull(pts).toPoints(), "seed " + seed);
+        }
+    }
+
+    /** Near-collinear points around 2^58: doubles cannot tell left from right here, the 128-bit path must. */
+    @Test
+    void exactOnLargeCoordinates() {
+        Random rnd = new Random(7);
+        int n = 500;
+        long[] xs = new long[n], ys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long x = (rnd.nextLong() >>> 6) - (1L << 57);
+            xs[i] = x;
+            ys[i] = 3 * x + rnd.nextInt(3) - 1;
+        }
+        IntPoints pts = IntPoints.of(xs, ys, n);
+        IntPoints hull = new IntegerMonotoneChain().computeConvexHull(pts);
+
+        int h = hull.size();
+        assertTrue(h >= 3);
+        for (int i = 0; i < h; i++) {
+            int j = (i + 1) % h;
+            assertTrue(cross(hull, i, j, hull.x((i + 2) % h), hull.y((i + 2) % h)).signum() > 0, "not strictly convex at " + j);
+            for (int k = 0; k < n; k++) {
+                assertTrue(cross(hull, i, j, xs[k], ys[k]).signum() >= 0, "point " + k + " outside edge " + i);
+            }
+        }
+    }
+
+    private static BigInteger cross(IntPoints hull, int a, int b, long cx, long cy) {
+        BigInteger ax = BigInteger.valueOf(hull.x(a)), ay = BigInteger.valueOf(hull.y(a));
+        BigInteger bx = BigInteger.valueOf(hull.x(b)).subtract(ax), by = BigInteger.valueOf(hull.y(b)).subtract(ay);
+        BigInteger px = BigInteger.valueOf(cx).subtract(ax), py = BigInteger.valueOf(cy).subtract(ay);
+        return bx.multiply(py).subtract(by.multiply(px));
+    }
+
+    @Test
+    void dropsDuplicatesAndInteriorPointsLikeAndrew() {
+        List<Point> pts = List.of(new Point(0, 0), new Point(4, 0), new Point(4, 4), new Point(0, 4), new Point(2, 2), new Point(4, 0));
+        assertEquals(new AndrewMonotoneChain().computeConvexHull(pts), new IntegerMonotoneChain().computeConvexHull(pts));
+    }
+}
@@ -0,0 +1,69 @@
+package algorithm.melkman;
+
+import algorithm.andrew.AndrewMonotoneChain;
+import geometry.Point;
+import io.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MelkmanHullTest {
+
+    @Test
+    void matchesAndrewOnSimplePolygons() {
+        for (long seed = 1; seed <= 5; seed++) {
+            List<Point> polygon = PointGenerator.starPolygon(5000, 5.5, 5.5, 2, 4.5, seed);
+            assertEquals(new AndrewMonotoneChain().computeConvexHull(polygon),
+                    new MelkmanHull().computeConvexHull(polygon), "seed " + seed);
+        }
+    }
+
+    /** x-monotone polyline: a simple open chain. */
+    @Test
+    void matchesAndrewOnSimplePolylines() {
+        List<Point> chain = new ArrayList<>(PointGenerator.uniformRandom(3000, 0, 100, 0, 10, 3));
+        chain.sort(Comparator.comparingDouble(Point::getX));
+        assertEquals(new AndrewMonotoneChain().computeConvexHull(chain), new MelkmanHull().computeConvexHull(chain));
+    }
+
+    /** Rectilinear outlines put many collinear points on the end edges; none of them is a hull vertex. */
+    @Test
+    void dropsCollinearPointsOfRectilinearPolygons() {
+        List<Point> rectangle = List.of(new Point(0, 0), new Point(0, 1), new Point(0, 2), new Point(1, 2),
+                new Point(2, 2), new Point(3, 2), new Point(3, 1), new Point(3, 0), new Point(2, 0), new Point(1, 0));
+        assertEquals(List.of(rectangle.get(0), rectangle.get(7), rectangle.get(5), rectangle.get(2)),
+                new MelkmanHull().computeConvexHull(rectangle));
+
+        for (int s = 2; s <= 12; s++) {
+            // staircase from (0,0) up to (s,s) in unit steps, back along y = s and x = 0
+            List<Point> stairs = new ArrayList<>();
+            for (int i = 0; i < s; i++) {
+                stairs.add(new Point(i, i));
+                stairs.add(new Point(i + 1, i));
+            }
+            for (int x = s; x >= 0; x--) stairs.add(new Point(x, s));
+            for (int y = s - 1; y >= 1; y--) stairs.add(new Point(0, y));
+            // every start vertex and both directions of the outline
+            for (int start = 0; start < stairs.size(); start++) {
+                List<Point> chain = new ArrayList<>(stairs.subList(start, stairs.size()));
+                chain.addAll(stairs.subList(0, start));
+                assertEquals(new AndrewMonotoneChain().computeConvexHull(chain), new MelkmanHull().computeConvexHull(chain),
+                        "s " + s + ", start " + start);
+                Collections.reverse(chain);
+                assertEquals(new AndrewMonotoneChain().computeConvexHull(chain), new MelkmanHull().computeConvexHull(chain),
+                        "s " + s + ", start " + start + ", reversed");
+            }
+        }
+    }
+
+    @Test
+    void fallsBackForPointSets() {
+        List<Point> pts = PointGenerator.uniformRandom(3000, 1, 10, 1, 10, 4);
+        assertEquals(new AndrewMonotoneChain().computeConvexHull(pts), new MelkmanHull().computeConvexHull(pts, false));
+    }
+}
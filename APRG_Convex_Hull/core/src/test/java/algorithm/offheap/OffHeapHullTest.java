@@ -0,0 +1,37 @@
+package algorithm.offheap;
+
+import algorithm.andrew.AndrewMonotoneChain;
+import geometry.Point;
+import io.OffHeapPoints;
+import io.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapHullTest {
+
+    /** Small chunks, so the Akl–Toussaint filter and the merge of chunk hulls both matter. */
+    @Test
+    void matchesAndrewAcrossChunks() {
+        List<Point> pts = PointGenerator.uniformRandom(100_000, 1, 10, 1, 10, 11);
+        assertEquals(new AndrewMonotoneChain().computeConvexHull(pts), new OffHeapHull(1000).computeConvexHull(pts));
+    }
+
+    @Test
+    void matchesAndrewOnCircle() {
+        List<Point> pts = PointGenerator.onCircle(2000, 5.5, 5.5, 4.5, 12);
+        assertEquals(new AndrewMonotoneChain().computeConvexHull(pts), new OffHeapHull(256).computeConvexHull(pts));
+    }
+
+    @Test
+    void generatedStoreMatchesHeapCopy() throws IOException {
+        try (OffHeapPoints store = OffHeapPoints.allocate(50_000)) {
+            PointGenerator.uniformRandom(store, 1, 10, 1, 10, 13);
+            List<Point> heap = PointGenerator.uniformRandom(50_000, 1, 10, 1, 10, 13);
+            assertEquals(new AndrewMonotoneChain().computeConvexHull(heap), new OffHeapHull(4096).computeConvexHull(store));
+        }
+    }
+}
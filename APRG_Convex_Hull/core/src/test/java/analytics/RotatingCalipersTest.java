@@ -0,0 +1,37 @@
+package analytics;
+
+import algorithm.andrew.AndrewMonotoneChain;
+import geometry.Point;
+import io.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotatingCalipersTest {
+    private static final double TOL = 1e-9;
+
+    @Test
+    void matchesNaiveOnRandomHulls() {
+        for (long seed = 1; seed <= 10; seed++) {
+            assertSameMetrics(new AndrewMonotoneChain().computeConvexHull(PointGenerator.uniformRandom(500, 1, 10, 1, 10, seed)));
+            assertSameMetrics(new AndrewMonotoneChain().computeConvexHull(PointGenerator.onCircle(300, 5.5, 5.5, 4.5, seed)));
+        }
+    }
+
+    @Test
+    void matchesNaiveOnDegenerateHulls() {
+        assertSameMetrics(List.of(new Point(1, 1)));
+        assertSameMetrics(List.of(new Point(1, 1), new Point(4, 5)));
+        assertSameMetrics(List.of(new Point(0, 0), new Point(4, 0), new Point(0, 3)));
+    }
+
+    private static void assertSameMetrics(List<Point> hull) {
+        HullMetrics fast = RotatingCalipers.analyze(hull), naive = NaiveHullAnalytics.analyze(hull);
+        assertEquals(naive.diameter(), fast.diameter(), TOL, "diameter");
+        assertEquals(naive.width(), fast.width(), TOL, "width");
+        assertEquals(naive.minAreaRect().area(), fast.minAreaRect().area(), TOL, "min-area rect");
+        assertEquals(naive.minPerimeterRect().perimeter(), fast.minPerimeterRect().perimeter(), TOL, "min-perimeter rect");
+    }
+}
@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Lean runtime for the headless CLI (core module only):
+#   1. jlink image with just the modules the core jar needs (jdeps; no java.desktop), with the default CDS archive
+#   2. AppCDS archive of the application classes from a short training run of Main --mode=perf
+#   3. bin/convex-hull launcher that uses both
+#
+# usage: build-runtime.sh <convex-hull-core.jar> <output dir>
+set -euo pipefail
+
+JAR=$(realpath "$1")
+OUT=$(realpath -m "$2")
+JAVA_HOME=${JAVA_HOME:-$(dirname "$(dirname "$(readlink -f "$(command -v java)")")")}
+
+# FFM API is a preview feature on JDK 21 (see the jdk21-preview profile in pom.xml)
+FEATURE=$("$JAVA_HOME/bin/java" -XshowSettings:properties -version 2>&1 | awk '/java.specification.version/ {print $3}')
+PREVIEW=""
+if [ "$FEATURE" = "21" ]; then PREVIEW="--enable-preview"; fi
+
+MODULES=$("$JAVA_HOME/bin/jdeps" --ignore-missing-deps --print-module-deps --multi-release "$FEATURE" "$JAR")
+echo "jlink modules: $MODULES"
+
+rm -rf "$OUT"
+"$JAVA_HOME/bin/jlink" --add-modules "$MODULES" --strip-debug --no-header-files --no-man-pages \
+    --generate-cds-archive --output "$OUT"
+
+mkdir -p "$OUT/app"
+cp "$JAR" "$OUT/app/convex-hull-core.jar"
+
+# training run: records the classes of the perf path into a dynamic CDS archive
+"$OUT/bin/java" $PREVIEW -XX:ArchiveClassesAtExit="$OUT/app/cli.jsa" -Xlog:cds=off -Xlog:cds+dynamic=off \
+    -cp "$OUT/app/convex-hull-core.jar" Main --mode=perf --algo=ALL --n=2000 > /dev/null
+
+cat > "$OUT/bin/convex-hull" <<LAUNCHER
+#!/bin/sh
+DIR=\$(cd "\$(dirname "\$0")/.." && pwd)
+exec "\$DIR/bin/java" $PREVIEW -XX:SharedArchiveFile="\$DIR/app/cli.jsa" -Xlog:cds=off -cp "\$DIR/app/convex-hull-core.jar" Main "\$@"
+LAUNCHER
+chmod +x "$OUT/bin/convex-hull"
+echo "runtime: $OUT ($(du -sh "$OUT" | cut -f1)), launcher: $OUT/bin/convex-hull"
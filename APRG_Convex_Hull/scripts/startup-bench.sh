@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Wall-clock startup comparison of a short Main --mode=perf run:
+#   pre-split single-module build (sources of BASE_REF, compiled here with javac)
+#   vs. full JDK + class path (core + ui jars)  vs.  full JDK + core jar  vs.  jlink image + AppCDS (build-runtime.sh)
+#
+# usage: startup-bench.sh [runs]   (after: mvn package && mvn -Pruntime -pl core package)
+#   BASE_REF defaults to the commit before core/pom.xml was added; set BASE_REF= to skip the baseline.
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+RUNS=${1:-10}
+JAVA_HOME=${JAVA_HOME:-$(dirname "$(dirname "$(readlink -f "$(command -v java)")")")}
+CORE="$ROOT/core/target/convex-hull-core-1.0-SNAPSHOT.jar"
+UI="$ROOT/ui/target/convex-hull-ui-1.0-SNAPSHOT.jar"
+RUNTIME="$ROOT/core/target/runtime"
+ARGS="--mode=perf --algo=ANDREW --n=1000"
+
+FEATURE=$("$JAVA_HOME/bin/java" -XshowSettings:properties -version 2>&1 | awk '/java.specification.version/ {print $3}')
+PREVIEW=""
+if [ "$FEATURE" = "21" ]; then PREVIEW="--enable-preview"; fi
+
+if [ -z "${BASE_REF+x}" ]; then
+    SPLIT=$(git -C "$ROOT" log --diff-filter=A --format=%H -- core/pom.xml | tail -1)
+    BASE_REF=${SPLIT:+$SPLIT^}
+fi
+BASE_CLASSES=""
+if [ -n "$BASE_REF" ]; then
+    BASE_DIR=$(mktemp -d)
+    trap 'rm -rf "$BASE_DIR"' EXIT
+    PREFIX=$(git -C "$ROOT" rev-parse --show-prefix)
+    git -C "$(git -C "$ROOT" rev-parse --show-toplevel)" archive --prefix=src/ "$BASE_REF:${PREFIX}src" | tar -x -C "$BASE_DIR"
+    BASE_CLASSES="$BASE_DIR/classes"
+    find "$BASE_DIR/src" -name '*.java' > "$BASE_DIR/sources"
+    "$JAVA_HOME/bin/javac" -nowarn $PREVIEW --release "$FEATURE" -d "$BASE_CLASSES" @"$BASE_DIR/sources" 2> /dev/null
+fi
+
+measure() {
+    local name=$1; shift
+    local total=0
+    for _ in $(seq "$RUNS"); do
+        local t0 t1
+        t0=$(date +%s%N)
+        "$@" > /dev/null
+        t1=$(date +%s%N)
+        total=$((total + (t1 - t0) / 1000000))
+    done
+    printf "%-30s avg %5d ms over %d runs\n" "$name" $((total / RUNS)) "$RUNS"
+}
+
+if [ -n "$BASE_CLASSES" ]; then
+    measure "pre-split build ($(git -C "$ROOT" rev-parse --short "$BASE_REF"))" "$JAVA_HOME/bin/java" $PREVIEW -cp "$BASE_CLASSES" Main $ARGS
+fi
+measure "JDK, core+ui class path" "$JAVA_HOME/bin/java" $PREVIEW -cp "$CORE:$UI" Main $ARGS
+measure "JDK, core only"          "$JAVA_HOME/bin/java" $PREVIEW -cp "$CORE" Main $ARGS
+measure "jlink image + AppCDS"    "$RUNTIME/bin/convex-hull" $ARGS
@@ -3,16 +3,18 @@ package ui;
 import algorithm.Algorithms;
 import algorithm.ConvexHullAlgorithm;
 import algorithm.andrew.AndrewMonotoneChain;
+import algorithm.approx.StripApproximateHull;
+import algorithm.auto.AutoConvexHull;
 import algorithm.jarvis.JarvisGiftWrapping;
 import algorithm.progress.HullProgressListener;
-import algorithm.workers.AndrewsWorker;
-import algorithm.workers.JarvisWorker;
 import benchmark.BenchmarkRunner;
+import geometry.Point;
 import io.PointGenerator;
+import ui.workers.AndrewsWorker;
+import ui.workers.JarvisWorker;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.geom.Point2D;
 import java.util.List;
 
 public class ConvexHullFrame extends JFrame {
@@ -21,14 +23,15 @@ public class ConvexHullFrame extends JFrame {
     // visual controls
     private final JButton runBtn   = new JButton("Run");
     private final JButton regenBtn = new JButton("New Points");
-    // Only visual algos in this combo (exclude ALL)
+    // Only visual algos in this combo (exclude ALL); APPROX is shown without animation
     private final JComboBox<Algorithms> algoBox =
-            new JComboBox<>(new Algorithms[]{Algorithms.ANDREW, Algorithms.JARVIS});
+            new JComboBox<>(new Algorithms[]{Algorithms.ANDREW, Algorithms.JARVIS, Algorithms.APPROX});
+    private final JSpinner bucketSpinner = new JSpinner(new SpinnerNumberModel(8, 1, 1_000_000, 1));
 
     // benchmark controls (no warmup)
     private final JButton benchBtn = new JButton("Benchmark");
     private final JComboBox<Algorithms> benchAlgoBox =
-            new JComboBox<>(new Algorithms[]{Algorithms.ALL, Algorithms.ANDREW, Algorithms.JARVIS});
+            new JComboBox<>(new Algorithms[]{Algorithms.ALL, Algorithms.ANDREW, Algorithms.JARVIS, Algorithms.AUTO, Algorithms.APPROX});
     private final JSpinner nSpinner     = new JSpinner(new SpinnerNumberModel(200, 3, 1_000_000, 100));
     private final JSpinner seedSpinner  = new JSpinner(new SpinnerNumberModel(1234, 0, Integer.MAX_VALUE, 1));
     private final JSpinner runsSpinner  = new JSpinner(new SpinnerNumberModel(8, 1, 1000, 1));
@@ -37,9 +40,9 @@ public class ConvexHullFrame extends JFrame {
     private final JTextArea benchOut = new JTextArea(7, 20);
 
     // current dataset
-    private List<Point2D> points;
+    private List<Point> points;
 
-    public ConvexHullFrame(List<Point2D> points) {
+    public ConvexHullFrame(List<Point> points) {
         super("Convex Hull – Visual Mode");
         this.points = points;
 
@@ -56,6 +59,8 @@ public class ConvexHullFrame extends JFrame {
         JToolBar bar = new JToolBar();
         bar.add(new JLabel("Algorithm: "));
         bar.add(algoBox);
+        bar.add(new JLabel(" buckets:"));
+        bar.add(bucketSpinner);
         bar.add(runBtn);
         bar.add(regenBtn);
         bar.addSeparator(new Dimension(20, 0));
@@ -90,10 +95,10 @@ public class ConvexHullFrame extends JFrame {
         runBtn.setEnabled(false);
 
         HullProgressListener listener = new HullProgressListener() {
-            @Override public void onChainsUpdated(List<Point2D> lower, List<Point2D> upper) {
+            @Override public void onChainsUpdated(List<Point> lower, List<Point> upper) {
                 panel.setLiveChains(lower, upper);
             }
-            @Override public void onFinished(List<Point2D> hull) {
+            @Override public void onFinished(List<Point> hull) {
                 panel.setFinalHull(hull);
                 runBtn.setEnabled(true);
             }
@@ -104,6 +109,14 @@ public class ConvexHullFrame extends JFrame {
             new AndrewsWorker(points, listener, 80).execute();
         } else if (a == Algorithms.JARVIS) {
             new JarvisWorker(points, listener, 80).execute();
+        } else if (a == Algorithms.APPROX) {
+            StripApproximateHull approx = new StripApproximateHull((int) bucketSpinner.getValue());
+            List<Point> hull = approx.computeConvexHull(points);
+            benchOut.append(String.format("Approx: buckets=%d | h=%d | error bound=%.3g | measured=%.3g%n",
+                    (int) bucketSpinner.getValue(), hull.size(), approx.lastErrorBound(),
+                    StripApproximateHull.measuredError(points, hull)));
+            panel.setLiveChains(List.of(), List.of());
+            listener.onFinished(hull);
         } else {
             runBtn.setEnabled(true); // not reachable (combo excludes ALL)
         }
@@ -135,15 +148,19 @@ public class ConvexHullFrame extends JFrame {
                 appendBenchLine("=== Benchmark ===  n=%d  seed=%d  runs=%d", n, seed, runs);
 
                 // fresh random dataset for stable comparisons
-                List<Point2D> pts = PointGenerator.uniformRandom(n, 1, 10, 1, 10, seed);
+                List<Point> pts = PointGenerator.uniformRandom(n, 1, 10, 1, 10, seed);
 
                 switch (which) {
                     case ALL -> {
                         timeOne("andrew", new AndrewMonotoneChain(), pts, runs);
                         timeOne("jarvis", new JarvisGiftWrapping(),  pts, runs);
+                        timeOne("auto",   new AutoConvexHull(),      pts, runs);
+                        timeOne("approx", new StripApproximateHull((int) bucketSpinner.getValue()), pts, runs);
                     }
                     case ANDREW -> timeOne("andrew", new AndrewMonotoneChain(), pts, runs);
                     case JARVIS -> timeOne("jarvis", new JarvisGiftWrapping(),  pts, runs);
+                    case AUTO   -> timeOne("auto",   new AutoConvexHull(),      pts, runs);
+                    case APPROX -> timeOne("approx", new StripApproximateHull((int) bucketSpinner.getValue()), pts, runs);
                 }
 
                 appendBenchLine("------------------------------");
@@ -155,9 +172,10 @@ public class ConvexHullFrame extends JFrame {
                 benchBtn.setEnabled(true);
             }
 
-            private void timeOne(String name, ConvexHullAlgorithm algo, List<Point2D> pts, int r) {
+            private void timeOne(String name, ConvexHullAlgorithm algo, List<Point> pts, int r) {
                 double avg = BenchmarkRunner.avgMillis(algo, pts, r);
                 appendBenchLine("Algorithm: %-6s | n=%-7d | avg=%.3f ms", name, pts.size(), avg);
+                if (algo instanceof AutoConvexHull auto) appendBenchLine("  %s", auto.lastDecision());
             }
 
             private void appendBenchLine(String fmt, Object... args) {
@@ -1,5 +1,7 @@
 package ui;
 
+import geometry.Point;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.*;
@@ -19,14 +21,14 @@ import java.util.function.Function;
 public class ConvexHullPanel extends JPanel {
 
     // immutable reference for points (you can replace via setPoints if needed)
-    private List<Point2D> points;
+    private List<Point> points;
 
     // live (in-progress) chains published during computation
-    private List<Point2D> liveLower = Collections.emptyList();
-    private List<Point2D> liveUpper = Collections.emptyList();
+    private List<Point> liveLower = Collections.emptyList();
+    private List<Point> liveUpper = Collections.emptyList();
 
     // final hull (drawn bold)
-    private List<Point2D> finalHull = Collections.emptyList();
+    private List<Point> finalHull = Collections.emptyList();
 
     // drawing config
     private static final int PAD = 30;
@@ -36,7 +38,7 @@ public class ConvexHullPanel extends JPanel {
     private boolean showFrame = true;
     private boolean closeHullLoop = true; // draw last edge to first
 
-    public ConvexHullPanel(List<Point2D> points, List<Point2D> hull) {
+    public ConvexHullPanel(List<Point> points, List<Point> hull) {
         this.points = points == null ? Collections.emptyList() : points;
         this.finalHull = hull == null ? Collections.emptyList() : hull;
         setBackground(Color.WHITE);
@@ -44,7 +46,7 @@ public class ConvexHullPanel extends JPanel {
     }
 
     /** Replace input point set (e.g., when regenerating points). */
-    public void setPoints(List<Point2D> points) {
+    public void setPoints(List<Point> points) {
         this.points = points == null ? Collections.emptyList() : points;
         // reset visuals
         this.liveLower = Collections.emptyList();
@@ -54,14 +56,14 @@ public class ConvexHullPanel extends JPanel {
     }
 
     /** Called repeatedly during computation to show current chains. */
-    public void setLiveChains(List<Point2D> lower, List<Point2D> upper) {
+    public void setLiveChains(List<Point> lower, List<Point> upper) {
         this.liveLower = lower == null ? Collections.emptyList() : lower;
         this.liveUpper = upper == null ? Collections.emptyList() : upper;
         repaint();
     }
 
     /** Called when the final hull is ready. */
-    public void setFinalHull(List<Point2D> hull) {
+    public void setFinalHull(List<Point> hull) {
         this.finalHull = hull == null ? Collections.emptyList() : hull;
         repaint();
     }
@@ -82,10 +84,10 @@ public class ConvexHullPanel extends JPanel {
         }
 
         // compute world bounds from points (so all content fits nicely)
-        double minX = points.stream().mapToDouble(Point2D::getX).min().orElse(0);
-        double maxX = points.stream().mapToDouble(Point2D::getX).max().orElse(1);
-        double minY = points.stream().mapToDouble(Point2D::getY).min().orElse(0);
-        double maxY = points.stream().mapToDouble(Point2D::getY).max().orElse(1);
+        double minX = points.stream().mapToDouble(Point::getX).min().orElse(0);
+        double maxX = points.stream().mapToDouble(Point::getX).max().orElse(1);
+        double minY = points.stream().mapToDouble(Point::getY).min().orElse(0);
+        double maxY = points.stream().mapToDouble(Point::getY).max().orElse(1);
         if (Math.abs(maxX - minX) < 1e-9) maxX = minX + 1;
         if (Math.abs(maxY - minY) < 1e-9) maxY = minY + 1;
 
@@ -94,7 +96,7 @@ public class ConvexHullPanel extends JPanel {
         int drawH = Math.max(1, h - 2 * PAD);
 
         final double fMinX = minX, fMaxX = maxX, fMinY = minY, fMaxY = maxY;
-        Function<Point2D, Point2D> toScreen = p -> {
+        Function<Point, Point2D> toScreen = p -> {
             double nx = (p.getX() - fMinX) / (fMaxX - fMinX); // 0..1
             double ny = (p.getY() - fMinY) / (fMaxY - fMinY); // 0..1
             double sx = PAD + nx * drawW;
@@ -112,7 +114,7 @@ public class ConvexHullPanel extends JPanel {
 
         // draw input points
         g.setColor(new Color(50, 50, 50));
-        for (Point2D p : points) {
+        for (Point p : points) {
             Point2D sp = toScreen.apply(p);
             double r = POINT_SIZE / 2.0;
             Shape dot = new Ellipse2D.Double(sp.getX() - r, sp.getY() - r, POINT_SIZE, POINT_SIZE);
@@ -147,7 +149,7 @@ public class ConvexHullPanel extends JPanel {
 
             // emphasize hull vertices
             g.setColor(new Color(20, 20, 20));
-            for (Point2D p : finalHull) {
+            for (Point p : finalHull) {
                 Point2D sp = toScreen.apply(p);
                 double r = POINT_SIZE / 2.0 + 1;
                 Shape dot = new Ellipse2D.Double(sp.getX() - r, sp.getY() - r, POINT_SIZE + 2, POINT_SIZE + 2);
@@ -159,8 +161,8 @@ public class ConvexHullPanel extends JPanel {
     }
 
     private void drawPolyline(Graphics2D g,
-                              Function<Point2D, Point2D> toScreen,
-                              List<Point2D> pts,
+                              Function<Point, Point2D> toScreen,
+                              List<Point> pts,
                               Stroke stroke,
                               Color color) {
         if (pts == null || pts.size() < 2) return;
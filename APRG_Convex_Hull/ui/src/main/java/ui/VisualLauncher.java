@@ -0,0 +1,16 @@
+package ui;
+
+import geometry.Point;
+
+import javax.swing.*;
+import java.util.List;
+
+/** Entry for Main --mode=visual; looked up by name so that the headless core does not depend on Swing. */
+public class VisualLauncher {
+    public static void open(List<Point> points) {
+        SwingUtilities.invokeLater(() -> {
+            ConvexHullFrame frame = new ConvexHullFrame(points);
+            frame.setVisible(true);
+        });
+    }
+}
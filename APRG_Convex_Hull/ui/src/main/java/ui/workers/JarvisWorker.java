@@ -1,9 +1,9 @@
-package algorithm.workers;
+package ui.workers;
 
 import algorithm.progress.HullProgressListener;
+import geometry.Point;
 
 import javax.swing.*;
-import java.awt.geom.Point2D;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -16,43 +16,43 @@ import java.util.stream.Collectors;
  *   orient(a,b,c) < 0  => RIGHT
  *   |orient| <= EPS    => collinear
  */
-public class JarvisWorker extends SwingWorker<List<Point2D>, List<Point2D>> {
+public class JarvisWorker extends SwingWorker<List<Point>, List<Point>> {
 
-    private final List<Point2D> input;
+    private final List<Point> input;
     private final HullProgressListener listener;
     private final long delayMillis;
 
     private static final double EPS = 1e-12;
 
-    public JarvisWorker(List<Point2D> input, HullProgressListener listener, long delayMillis) {
+    public JarvisWorker(List<Point> input, HullProgressListener listener, long delayMillis) {
         this.input = input;
         this.listener = listener;
         this.delayMillis = delayMillis;
     }
 
     @Override
-    protected List<Point2D> doInBackground() {
+    protected List<Point> doInBackground() {
         if (input == null || input.size() <= 1) {
             return input == null ? List.of() : new ArrayList<>(input);
         }
 
         // Work on a de-duplicated copy for robustness
-        List<Point2D> points = deduplicate(input);
+        List<Point> points = deduplicate(input);
         int n = points.size();
         if (n <= 1) return new ArrayList<>(points);
 
         // Find leftmost (then lowest) starting point
         int leftmost = 0;
         for (int i = 1; i < n; i++) {
-            Point2D p = points.get(i);
-            Point2D s = points.get(leftmost);
+            Point p = points.get(i);
+            Point s = points.get(leftmost);
             if (p.getX() < s.getX() ||
                     (Math.abs(p.getX() - s.getX()) < EPS && p.getY() < s.getY())) {
                 leftmost = i;
             }
         }
 
-        List<Point2D> hull = new ArrayList<>();
+        List<Point> hull = new ArrayList<>();
         int p = leftmost;
         do {
             hull.add(points.get(p));
@@ -79,9 +79,9 @@ public class JarvisWorker extends SwingWorker<List<Point2D>, List<Point2D>> {
     }
 
     @Override
-    protected void process(List<List<Point2D>> chunks) {
+    protected void process(List<List<Point>> chunks) {
         if (chunks.isEmpty()) return;
-        List<Point2D> current = chunks.get(chunks.size() - 1);
+        List<Point> current = chunks.get(chunks.size() - 1);
         // For Jarvis we have a single "chain": send it as the lower, leave upper empty.
         listener.onChainsUpdated(current, List.of());
     }
@@ -89,7 +89,7 @@ public class JarvisWorker extends SwingWorker<List<Point2D>, List<Point2D>> {
     @Override
     protected void done() {
         try {
-            List<Point2D> result = get();
+            List<Point> result = get();
             listener.onFinished(result);
         } catch (Exception e) {
             listener.onFinished(List.of());
@@ -97,7 +97,7 @@ public class JarvisWorker extends SwingWorker<List<Point2D>, List<Point2D>> {
     }
 
     /** Signed cross product: >0 => LEFT turn, <0 => RIGHT turn, ~0 => collinear. */
-    private static double orient(Point2D a, Point2D b, Point2D c) {
+    private static double orient(Point a, Point b, Point c) {
         double x1 = b.getX() - a.getX(), y1 = b.getY() - a.getY();
         double x2 = c.getX() - a.getX(), y2 = c.getY() - a.getY();
         double cross = x1 * y2 - y1 * x2;
@@ -105,7 +105,7 @@ public class JarvisWorker extends SwingWorker<List<Point2D>, List<Point2D>> {
         return cross;
     }
 
-    private static double dist2(Point2D a, Point2D b) {
+    private static double dist2(Point a, Point b) {
         double dx = a.getX() - b.getX();
         double dy = a.getY() - b.getY();
         return dx * dx + dy * dy;
@@ -117,17 +117,17 @@ public class JarvisWorker extends SwingWorker<List<Point2D>, List<Point2D>> {
         }
     }
 
-    private static List<Point2D> cloneList(List<Point2D> list) {
+    private static List<Point> cloneList(List<Point> list) {
         return list.stream()
-                .map(p -> new Point2D.Double(p.getX(), p.getY()))
+                .map(p -> new Point(p.getX(), p.getY()))
                 .collect(Collectors.toList());
     }
 
     /** Remove near-duplicates by rounding to 12 decimals (robust for UI-scale inputs). */
-    private static List<Point2D> deduplicate(List<Point2D> points) {
+    private static List<Point> deduplicate(List<Point> points) {
         Set<String> seen = new HashSet<>();
-        List<Point2D> unique = new ArrayList<>(points.size());
-        for (Point2D p : points) {
+        List<Point> unique = new ArrayList<>(points.size());
+        for (Point p : points) {
             String key = String.format(Locale.ROOT, "%.12f,%.12f", p.getX(), p.getY());
             if (seen.add(key)) unique.add(p);
         }